@@ -0,0 +1,93 @@
+package com.example.libraryapi;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트를 띄우고 도서 데이터를 채우는 도우미
+ * 웹 서버, SQL 로그, 주기 작업, 시작 시 실행 계획 점검을 끄고 지정한 SQLite DB로 애플리케이션을 시작합니다.
+ */
+public final class BenchmarkContexts {
+
+	/**
+	 * 벤치마크용 카테고리 수
+	 */
+	public static final int CATEGORIES = 50;
+
+	private static final int INSERT_BATCH_SIZE = 10_000;
+
+	private BenchmarkContexts() {
+	}
+
+	/**
+	 * 지정한 JDBC URL의 DB로 애플리케이션을 시작합니다.
+	 *
+	 * @param url        SQLite JDBC URL
+	 * @param properties 추가/재정의할 설정
+	 */
+	public static ConfigurableApplicationContext start(String url, Map<String, Object> properties) {
+		Map<String, Object> defaults = new HashMap<>();
+		defaults.put("spring.datasource.url", url);
+		defaults.put("spring.jpa.show-sql", "false");
+		defaults.put("spring.jpa.properties.hibernate.format_sql", "false");
+		defaults.put("logging.level.com.example.libraryapi", "WARN");
+		defaults.put("logging.level.org.hibernate", "WARN");
+		defaults.put("library.overdue-sweep.cron", "-");
+		defaults.put("library.query-plan-check.enabled", "false");
+		defaults.putAll(properties);
+
+		return new SpringApplicationBuilder(LibraryApiApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(defaults)
+				.run();
+	}
+
+	/**
+	 * 카테고리 CATEGORIES개와 도서 books권을 배치 INSERT로 추가합니다.
+	 * 도서마다 카테고리 1~2개를 연결하며, 앞쪽 카테고리에 도서가 몰리도록 편중시킵니다.
+	 *
+	 * @return 추가한 도서 ID 목록
+	 */
+	public static List<Integer> seedBooks(JdbcTemplate jdbcTemplate, int books) {
+		Integer firstCategoryId = null;
+		for (int i = 0; i < CATEGORIES; i++) {
+			jdbcTemplate.update("INSERT INTO categories (name) VALUES (?)", "벤치마크-" + i);
+			if (firstCategoryId == null) {
+				firstCategoryId = jdbcTemplate.queryForObject("SELECT last_insert_rowid()", Integer.class);
+			}
+		}
+
+		Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM books", Integer.class);
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<Object[]> bookRows = new ArrayList<>(INSERT_BATCH_SIZE);
+		List<Object[]> linkRows = new ArrayList<>(INSERT_BATCH_SIZE * 2);
+		List<Integer> ids = new ArrayList<>(books);
+		for (int i = 1; i <= books; i++) {
+			int id = maxId + i;
+			ids.add(id);
+			bookRows.add(new Object[] {id, "벤치마크 도서 " + i, "저자 " + (i % 1000), "AVAILABLE", now, now});
+			int category = (int) ((long) i * i % CATEGORIES) / 2;
+			linkRows.add(new Object[] {id, firstCategoryId + category});
+			if (i % 3 == 0) {
+				linkRows.add(new Object[] {id, firstCategoryId + CATEGORIES / 2 + i % (CATEGORIES / 2)});
+			}
+
+			if (bookRows.size() == INSERT_BATCH_SIZE || i == books) {
+				jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, status, created_at, updated_at) "
+						+ "VALUES (?, ?, ?, ?, ?, ?)", bookRows);
+				jdbcTemplate.batchUpdate("INSERT INTO book_categories (book_id, category_id) VALUES (?, ?)", linkRows);
+				bookRows.clear();
+				linkRows.clear();
+			}
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.BenchmarkContexts;
+import com.example.libraryapi.book.dto.BookSearchResult;
+import com.example.libraryapi.book.search.BookSearchIndex;
+import com.example.libraryapi.category.service.CategoryRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookService.searchBooks 측정 (인메모리 SQLite에 도서 books권을 채운 상태)
+ * 제목/저자 검색은 n-gram 색인 경로, 카테고리 검색은 DB 경로를 탑니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSearchBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	public int books;
+
+	private ConfigurableApplicationContext context;
+	private BookService bookService;
+
+	@Setup
+	public void setUp() {
+		// 공유 캐시 인메모리 DB는 풀의 커넥션이 하나라도 열려 있는 동안 유지됩니다.
+		context = BenchmarkContexts.start("jdbc:sqlite:file:bench-search-" + books + "?mode=memory&cache=shared",
+				Map.of("library.sqlite.enabled", "false"));
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		context.getBean(TransactionTemplate.class)
+				.executeWithoutResult(status -> BenchmarkContexts.seedBooks(jdbcTemplate, books));
+		context.getBean(CategoryRegistry.class).rebuild();
+		context.getBean(BookSearchIndex.class).rebuild();
+		bookService = context.getBean(BookService.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BookSearchResult searchByTitle() {
+		return bookService.searchBooks(null, "도서 777", null);
+	}
+
+	@Benchmark
+	public BookSearchResult searchByAuthor() {
+		return bookService.searchBooks("저자 42", null, null);
+	}
+
+	@Benchmark
+	public BookSearchResult searchByTitleAndCategory() {
+		return bookService.searchBooks(null, "도서 1", "벤치마크-30");
+	}
+
+	@Benchmark
+	public BookSearchResult searchByCategory() {
+		return bookService.searchBooks(null, null, "벤치마크-0");
+	}
+}
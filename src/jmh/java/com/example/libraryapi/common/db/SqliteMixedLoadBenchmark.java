@@ -0,0 +1,212 @@
+package com.example.libraryapi.common.db;
+
+import com.example.libraryapi.config.SqliteProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 읽기/쓰기 혼합 부하에서 기본 SQLite 커넥션 풀과 SQLite 전용 DataSource(WAL + 읽기 풀 + 단일 쓰기 대기열)의 처리량을 비교합니다.
+ * 스레드마다 10%는 도서 상태 UPDATE, 나머지는 도서 단건 조회를 실행하며,
+ * 읽기/쓰기/실패 건수는 보조 카운터(reads, writes, errors)로 따로 보고됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class SqliteMixedLoadBenchmark {
+
+	private static final int BOOKS = 10_000;
+	private static final int WRITE_PERCENT = 10;
+
+	private static final String READ_SQL = "SELECT b.id, b.title, b.status, c.name FROM books b "
+			+ "LEFT JOIN book_categories bc ON b.id = bc.book_id LEFT JOIN categories c ON c.id = bc.category_id "
+			+ "WHERE b.id = ?";
+	private static final String WRITE_SQL = "UPDATE books SET status = ?, updated_at = ? WHERE id = ?";
+
+	/**
+	 * baseline: 기존 설정과 같은 기본 풀, tuned: WAL + 읽기 풀 + 단일 쓰기 대기열
+	 */
+	@Param({"baseline", "tuned"})
+	public String mode;
+
+	private Path directory;
+	private final List<HikariDataSource> pools = new ArrayList<>();
+	private DataSource dataSource;
+	private boolean markReadOnly;
+
+	@Setup
+	public void setUp() throws IOException, SQLException {
+		directory = Files.createTempDirectory("sqlite-mixed-load");
+		String url = "jdbc:sqlite:" + directory.resolve("library.db");
+
+		if ("tuned".equals(mode)) {
+			SqliteProperties properties = new SqliteProperties(true, "WAL", "NORMAL", Duration.ofSeconds(5),
+					16384, 268435456L, 8, Duration.ofSeconds(30), 256, Duration.ofSeconds(30));
+			HikariDataSource writer = SqliteDataSources.writer(url, properties);
+			HikariDataSource reader = SqliteDataSources.reader(url, properties);
+			pools.add(writer);
+			pools.add(reader);
+			dataSource = SqliteDataSources.routing(
+					new WriteQueueDataSource(writer, properties.writeQueueCapacity()),
+					new ConnectionLimitingDataSource(reader, properties.readPoolSize(), properties.readPermitTimeout()));
+			markReadOnly = true;
+		} else {
+			HikariDataSource pool = baselinePool(url);
+			pools.add(pool);
+			dataSource = pool;
+		}
+		seed(dataSource);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		pools.forEach(HikariDataSource::close);
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public void mixed(Operations operations) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int bookId = random.nextInt(BOOKS) + 1;
+		try {
+			if (random.nextInt(100) < WRITE_PERCENT) {
+				write(bookId);
+				operations.writes++;
+			} else {
+				read(bookId);
+				operations.reads++;
+			}
+		} catch (SQLException e) {
+			operations.errors++;
+		}
+	}
+
+	/**
+	 * 스레드별 읽기/쓰기/실패 건수 (JMH가 반복마다 초당 처리량으로 합산해 보고)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Operations {
+
+		public long reads;
+		public long writes;
+		public long errors;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			reads = 0;
+			writes = 0;
+			errors = 0;
+		}
+	}
+
+	/**
+	 * 기존 설정과 같은 기본 풀 (롤백 저널, 모든 커넥션이 읽기/쓰기 겸용)
+	 */
+	private static HikariDataSource baselinePool(String url) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("sqlite-baseline");
+		config.setJdbcUrl(url);
+		config.setMaximumPoolSize(10);
+		return new HikariDataSource(config);
+	}
+
+	private static void seed(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			connection.setAutoCommit(false);
+			statement.execute("CREATE TABLE books (id INTEGER PRIMARY KEY AUTOINCREMENT, title VARCHAR(255) NOT NULL, "
+					+ "author VARCHAR(255) NOT NULL, status VARCHAR(20), created_at TIMESTAMP, updated_at TIMESTAMP)");
+			statement.execute("CREATE TABLE categories (id INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR(50) NOT NULL UNIQUE)");
+			statement.execute("CREATE TABLE book_categories (book_id INTEGER, category_id INTEGER, PRIMARY KEY (book_id, category_id))");
+			for (int i = 1; i <= 20; i++) {
+				statement.execute("INSERT INTO categories (name) VALUES ('category-" + i + "')");
+			}
+			try (PreparedStatement book = connection.prepareStatement(
+					"INSERT INTO books (title, author, status, created_at, updated_at) VALUES (?, ?, 'AVAILABLE', ?, ?)");
+					PreparedStatement link = connection.prepareStatement(
+							"INSERT INTO book_categories (book_id, category_id) VALUES (?, ?)")) {
+				long now = System.currentTimeMillis();
+				for (int i = 1; i <= BOOKS; i++) {
+					book.setString(1, "title-" + i);
+					book.setString(2, "author-" + (i % 500));
+					book.setLong(3, now);
+					book.setLong(4, now);
+					book.addBatch();
+					link.setInt(1, i);
+					link.setInt(2, i % 20 + 1);
+					link.addBatch();
+				}
+				book.executeBatch();
+				link.executeBatch();
+			}
+			connection.commit();
+		}
+	}
+
+	/**
+	 * markReadOnly이면 읽기 전용 트랜잭션처럼 첫 SQL 실행 전에 읽기 전용으로 표시해 읽기 풀로 보냅니다.
+	 * (sqlite-jdbc 커넥션은 연결 후 읽기 전용 전환을 지원하지 않으므로 기본 풀에서는 표시하지 않습니다.)
+	 */
+	private void read(int bookId) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			if (markReadOnly) {
+				connection.setReadOnly(true);
+			}
+			try (PreparedStatement statement = connection.prepareStatement(READ_SQL)) {
+				statement.setInt(1, bookId);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						resultSet.getString(2);
+					}
+				}
+			}
+		}
+	}
+
+	private void write(int bookId) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement(WRITE_SQL)) {
+				statement.setString(1, bookId % 2 == 0 ? "AVAILABLE" : "UNAVAILABLE");
+				statement.setLong(2, System.currentTimeMillis());
+				statement.setInt(3, bookId);
+				statement.executeUpdate();
+				connection.commit();
+			} catch (SQLException e) {
+				connection.rollback();
+				throw e;
+			}
+		}
+	}
+}
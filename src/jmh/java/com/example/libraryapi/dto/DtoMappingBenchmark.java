@@ -0,0 +1,118 @@
+package com.example.libraryapi.dto;
+
+import com.example.libraryapi.book.dto.BookCategoryRow;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookSummary;
+import com.example.libraryapi.book.entity.Book;
+import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.dto.RentalRow;
+import com.example.libraryapi.rental.entity.Rental;
+import com.example.libraryapi.rental.entity.RentalStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티/프로젝션 → 응답 DTO 변환 비용 측정 (목록 응답의 직렬화 이전 단계)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+	private static final int CATEGORIES_PER_BOOK = 3;
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private List<Book> books;
+	private Set<Category> categories;
+	private List<Rental> rentals;
+	private List<BookSummary> bookSummaries;
+	private List<BookCategoryRow> bookCategoryRows;
+	private List<RentalRow> rentalRows;
+
+	@Setup
+	public void setUp() {
+		List<Category> allCategories = new ArrayList<>();
+		for (int i = 1; i <= Math.max(size, CATEGORIES_PER_BOOK); i++) {
+			Category category = new Category();
+			category.setId(i);
+			category.setName("카테고리 " + i);
+			allCategories.add(category);
+		}
+		categories = new HashSet<>(allCategories.subList(0, size));
+
+		books = new ArrayList<>(size);
+		rentals = new ArrayList<>(size);
+		bookSummaries = new ArrayList<>(size);
+		bookCategoryRows = new ArrayList<>(size * CATEGORIES_PER_BOOK);
+		rentalRows = new ArrayList<>(size);
+		for (int i = 1; i <= size; i++) {
+			Book book = new Book();
+			book.setId(i);
+			book.setTitle("도서 제목 " + i);
+			book.setAuthor("저자 " + i);
+			book.setStatus(BookStatus.AVAILABLE);
+			for (int c = 0; c < CATEGORIES_PER_BOOK; c++) {
+				Category category = allCategories.get((i + c) % allCategories.size());
+				book.getCategories().add(category);
+				bookCategoryRows.add(new BookCategoryRow(i, category.getId(), category.getName()));
+			}
+			books.add(book);
+			bookSummaries.add(new BookSummary(i, book.getTitle(), book.getAuthor(), book.getStatus()));
+
+			Rental rental = new Rental();
+			rental.setId(i);
+			rental.setBook(book);
+			rental.setDueDate(LocalDate.now().plusDays(14));
+			rental.setStatus(RentalStatus.BORROWED);
+			rental.setCreatedAt(LocalDateTime.now());
+			rental.setUpdatedAt(LocalDateTime.now());
+			rentals.add(rental);
+			rentalRows.add(new RentalRow(i, i, book.getTitle(), rental.getDueDate(), null, rental.getStatus(),
+					rental.getCreatedAt(), rental.getUpdatedAt()));
+		}
+	}
+
+	@Benchmark
+	public List<BookResponseDto> bookListFrom() {
+		return BookResponseDto.listFrom(books);
+	}
+
+	@Benchmark
+	public Set<CategoryResponseDto> categorySetFrom() {
+		return CategoryResponseDto.setFrom(categories);
+	}
+
+	@Benchmark
+	public List<RentalResponseDto> rentalListFrom() {
+		return RentalResponseDto.listFrom(rentals);
+	}
+
+	@Benchmark
+	public List<BookResponseDto> bookListFromProjections() {
+		return BookResponseDto.listFrom(bookSummaries, bookCategoryRows);
+	}
+
+	@Benchmark
+	public List<RentalResponseDto> rentalListFromRows() {
+		return RentalResponseDto.listFromRows(rentalRows);
+	}
+}
@@ -0,0 +1,113 @@
+package com.example.libraryapi.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.example.libraryapi.book.dto.BookRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GlobalExceptionHandler의 오류 응답 처리량 측정 (예외 생성 비용 포함)
+ * logLevel=OFF는 응답 생성 비용만, ERROR는 초당 건수 제한을 거친 로그 호출 비용까지 측정합니다.
+ * 콘솔 출력이 측정을 지배하지 않도록 ERROR에서도 로그는 아무것도 하지 않는 어펜더로만 보냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class GlobalExceptionHandlerBenchmark {
+
+	private static final String ENUM_ERROR_MESSAGE = "JSON parse error: Cannot deserialize value of type "
+			+ "`com.example.libraryapi.book.entity.BookStatus` from String \"LOST\": not one of the values accepted "
+			+ "for Enum class: [AVAILABLE, UNAVAILABLE]";
+
+	@Param({"OFF", "ERROR"})
+	public String logLevel;
+
+	private GlobalExceptionHandler handler;
+	private WebRequest webRequest;
+	private MethodParameter methodParameter;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		Logger logger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+		logger.setLevel(Level.toLevel(logLevel));
+		logger.setAdditive(false);
+		NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+		appender.setContext(logger.getLoggerContext());
+		appender.start();
+		logger.addAppender(appender);
+
+		ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages");
+		messageSource.setDefaultEncoding("UTF-8");
+		messageSource.setFallbackToSystemLocale(false);
+		handler = new GlobalExceptionHandler(new MessageUtils(messageSource));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books/1");
+		webRequest = new ServletWebRequest(request);
+		methodParameter = new MethodParameter(
+				GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("createBook", BookRequestDto.class), 0);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> businessException() {
+		return handler.handleBusinessException(new ResourceNotFoundException("Book not found. ID: 1"), webRequest);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> validationException() {
+		BookRequestDto target = new BookRequestDto("", "저자", Set.of(1));
+		BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "bookRequestDto");
+		bindingResult.addError(new FieldError("bookRequestDto", "title", "", false, null, null, "도서 제목은 필수입니다"));
+		return handler.handleValidationExceptions(new MethodArgumentNotValidException(methodParameter, bindingResult), webRequest);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> enumParseException() {
+		HttpMessageNotReadableException exception =
+				new HttpMessageNotReadableException(ENUM_ERROR_MESSAGE, new MockHttpInputMessage(new byte[0]));
+		return handler.handleHttpMessageNotReadable(exception, webRequest);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> runtimeException() {
+		return handler.handleRuntimeException(new IllegalStateException("Book is already rented"), webRequest);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> unexpectedException() {
+		return handler.handleGenericException(new Exception("unexpected"), webRequest);
+	}
+
+	/**
+	 * 검증 예외의 MethodParameter로 쓰기 위한 메소드
+	 */
+	@SuppressWarnings("unused")
+	private void createBook(BookRequestDto request) {
+	}
+}
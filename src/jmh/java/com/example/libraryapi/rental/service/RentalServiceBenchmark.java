@@ -0,0 +1,78 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.BenchmarkContexts;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * RentalService.borrowBook/returnBook 처리량 측정 (파일 SQLite, 실제 커밋 포함)
+ * 스레드마다 서로 다른 도서를 대여한 뒤 바로 반납하므로 충돌 없이 쓰기 경로만 측정합니다.
+ * groupCommit=true이면 대여/반납 그룹 커밋을 켠 상태로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RentalServiceBenchmark {
+
+	private static final int BOOKS = 10_000;
+
+	@Param({"false", "true"})
+	public boolean groupCommit;
+
+	private Path directory;
+	private ConfigurableApplicationContext context;
+	private RentalService rentalService;
+	private List<Integer> bookIds;
+	private final AtomicInteger nextBook = new AtomicInteger();
+
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("rental-benchmark");
+		context = BenchmarkContexts.start("jdbc:sqlite:" + directory.resolve("library.db"),
+				Map.of("library.rental.group-commit.enabled", String.valueOf(groupCommit)));
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		bookIds = context.getBean(TransactionTemplate.class)
+				.execute(status -> BenchmarkContexts.seedBooks(jdbcTemplate, BOOKS));
+		rentalService = context.getBean(RentalService.class);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		context.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public RentalResponseDto borrowAndReturn() {
+		Integer bookId = bookIds.get(Math.floorMod(nextBook.getAndIncrement(), bookIds.size()));
+		RentalResponseDto rental = rentalService.borrowBook(new RentalRequestDto(bookId, LocalDate.now().plusDays(14)));
+		return rentalService.returnBook(rental.id());
+	}
+}
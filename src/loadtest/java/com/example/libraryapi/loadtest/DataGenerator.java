@@ -0,0 +1,265 @@
+package com.example.libraryapi.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 운영 규모의 합성 데이터를 SQLite DB 파일에 직접 채우는 생성기
+ * schema.sql로 테이블을 다시 만든 뒤 카테고리, 도서, 도서-카테고리, 대여 이력을 배치 INSERT로 넣습니다.
+ * 생성한 DB로 애플리케이션을 띄울 때는 시작 시 스키마/샘플 데이터 초기화가 데이터를 지우지 않도록
+ * --spring.sql.init.mode=never로 실행해야 합니다.
+ *
+ * <pre>
+ * ./gradlew generateData --args="--db=./library.db --books=100000 --categories=50 --rentals=300000"
+ * </pre>
+ *
+ * 옵션 (괄호는 기본값)
+ * <ul>
+ *     <li>db (./library.db): 대상 DB 파일</li>
+ *     <li>books (100000), categories (50): 도서 수, 카테고리 수</li>
+ *     <li>max-categories-per-book (3): 도서당 최대 카테고리 수 (1~max개를 균등하게 선택)</li>
+ *     <li>category-skew (1.1): 카테고리 인기도의 Zipf 지수 (0이면 균등, 클수록 앞쪽 카테고리에 몰림)</li>
+ *     <li>rentals (300000): 전체 대여 이력 수 (반납 완료 + 대여 중)</li>
+ *     <li>active-ratio (0.2): 현재 대여 중인 도서 비율 (도서당 활성 대여는 하나)</li>
+ *     <li>overdue-ratio (0.15): 대여 중인 건 중 반납 기한이 지난 비율</li>
+ *     <li>seed (42): 난수 시드 (같은 옵션이면 같은 데이터)</li>
+ * </ul>
+ */
+public final class DataGenerator {
+
+	private static final int BATCH_SIZE = 10_000;
+	private static final int LOAN_DAYS = 14;
+	private static final int HISTORY_DAYS = 730;
+
+	private static final String[] TITLE_WORDS = {"데이터", "역사", "우주", "경제", "사랑", "도시", "인공지능", "여행", "철학",
+			"바다", "음악", "과학", "정원", "시간", "기억", "투자", "언어", "건축", "요리", "미래"};
+	private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+	private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수아", "현우", "지민", "태영", "유진"};
+
+	private final Options options;
+	private final Random random;
+
+	private DataGenerator(Options options) {
+		this.options = options;
+		this.random = new Random(options.longValue("seed", 42));
+	}
+
+	public static void main(String[] args) throws Exception {
+		new DataGenerator(new Options(args)).generate();
+	}
+
+	private void generate() throws SQLException, IOException {
+		String db = options.string("db", "./library.db");
+		int books = options.integer("books", 100_000);
+		int categories = options.integer("categories", 50);
+		int rentals = options.integer("rentals", 300_000);
+
+		long start = System.nanoTime();
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + db)) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("PRAGMA journal_mode = WAL");
+				statement.execute("PRAGMA synchronous = OFF");
+			}
+			connection.setAutoCommit(false);
+
+			createSchema(connection);
+			insertCategories(connection, categories);
+			insertBooks(connection, books, categories);
+			int active = insertRentals(connection, books, rentals);
+			connection.commit();
+
+			System.out.printf("Generated %d categories, %d books, %d rentals (%d active) into %s in %d ms%n",
+					categories, books, rentals, active, db, (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	/**
+	 * 애플리케이션과 같은 schema.sql, schema-indexes.sql로 테이블과 인덱스를 다시 만듭니다.
+	 */
+	private void createSchema(Connection connection) throws SQLException, IOException {
+		runScript(connection, "schema.sql");
+		runScript(connection, "schema-indexes.sql");
+	}
+
+	private void runScript(Connection connection, String name) throws SQLException, IOException {
+		String schema;
+		try (InputStream in = DataGenerator.class.getResourceAsStream("/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException(name + " not found on the classpath");
+			}
+			schema = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			for (String sql : schema.replaceAll("(?m)^--.*$", "").split(";")) {
+				if (!sql.isBlank()) {
+					statement.execute(sql);
+				}
+			}
+		}
+	}
+
+	private void insertCategories(Connection connection, int categories) throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO categories (id, name) VALUES (?, ?)")) {
+			for (int id = 1; id <= categories; id++) {
+				insert.setInt(1, id);
+				insert.setString(2, "카테고리 " + id);
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		}
+	}
+
+	/**
+	 * 도서와 도서-카테고리 관계를 넣습니다. 카테고리는 Zipf 분포로 골라 인기 카테고리에 도서가 몰리게 합니다.
+	 */
+	private void insertBooks(Connection connection, int books, int categories) throws SQLException {
+		ZipfSampler categorySampler = new ZipfSampler(categories, options.decimal("category-skew", 1.1), random);
+		int maxCategoriesPerBook = Math.min(options.integer("max-categories-per-book", 3), categories);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		try (PreparedStatement book = connection.prepareStatement(
+				"INSERT INTO books (id, title, author, status, created_at, updated_at) VALUES (?, ?, ?, 'AVAILABLE', ?, ?)");
+				PreparedStatement link = connection.prepareStatement(
+						"INSERT OR IGNORE INTO book_categories (book_id, category_id) VALUES (?, ?)")) {
+			for (int id = 1; id <= books; id++) {
+				book.setInt(1, id);
+				book.setString(2, title(id));
+				book.setString(3, author());
+				book.setTimestamp(4, now);
+				book.setTimestamp(5, now);
+				book.addBatch();
+
+				int count = 1 + random.nextInt(maxCategoriesPerBook);
+				for (int i = 0; i < count; i++) {
+					link.setInt(1, id);
+					link.setInt(2, categorySampler.next());
+					link.addBatch();
+				}
+
+				if (id % BATCH_SIZE == 0) {
+					book.executeBatch();
+					link.executeBatch();
+				}
+			}
+			book.executeBatch();
+			link.executeBatch();
+		}
+	}
+
+	/**
+	 * 대여 이력을 넣습니다.
+	 * 도서의 active-ratio만큼은 현재 대여 중(그중 overdue-ratio는 반납 기한 경과)으로, 나머지 이력은 과거 2년 내 반납 완료로 만듭니다.
+	 *
+	 * @return 현재 대여 중인 건수
+	 */
+	private int insertRentals(Connection connection, int books, int rentals) throws SQLException {
+		int active = (int) Math.min(Math.min(rentals, books), Math.round(books * options.decimal("active-ratio", 0.2)));
+		double overdueRatio = options.decimal("overdue-ratio", 0.15);
+		LocalDate today = LocalDate.now();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		// 대여 중인 도서는 서로 달라야 하므로 도서 ID를 섞어 앞에서부터 사용
+		int[] bookIds = new int[books];
+		for (int i = 0; i < books; i++) {
+			bookIds[i] = i + 1;
+		}
+		for (int i = books - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int tmp = bookIds[i];
+			bookIds[i] = bookIds[j];
+			bookIds[j] = tmp;
+		}
+
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO rentals (book_id, due_date, returned_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)");
+				PreparedStatement unavailable = connection.prepareStatement(
+						"UPDATE books SET status = 'UNAVAILABLE' WHERE id = ?")) {
+			for (int i = 0; i < rentals; i++) {
+				LocalDate borrowedOn;
+				LocalDate dueDate;
+				LocalDate returnedOn = null;
+				String status;
+				if (i < active) {
+					boolean overdue = random.nextDouble() < overdueRatio;
+					borrowedOn = overdue
+							? today.minusDays(LOAN_DAYS + 1 + random.nextInt(60))
+							: today.minusDays(random.nextInt(LOAN_DAYS));
+					dueDate = borrowedOn.plusDays(LOAN_DAYS);
+					status = overdue ? "OVERDUE" : "BORROWED";
+					unavailable.setInt(1, bookIds[i]);
+					unavailable.addBatch();
+				} else {
+					borrowedOn = today.minusDays(LOAN_DAYS + 1 + random.nextInt(HISTORY_DAYS));
+					dueDate = borrowedOn.plusDays(LOAN_DAYS);
+					returnedOn = borrowedOn.plusDays(1 + random.nextInt(LOAN_DAYS + 7));
+					status = "RETURNED";
+				}
+
+				insert.setInt(1, i < active ? bookIds[i] : 1 + random.nextInt(books));
+				insert.setDate(2, Date.valueOf(dueDate));
+				insert.setDate(3, returnedOn == null ? null : Date.valueOf(returnedOn));
+				insert.setString(4, status);
+				insert.setTimestamp(5, Timestamp.valueOf(borrowedOn.atStartOfDay()));
+				insert.setTimestamp(6, returnedOn == null ? now : Timestamp.valueOf(returnedOn.atStartOfDay()));
+				insert.addBatch();
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					insert.executeBatch();
+					unavailable.executeBatch();
+				}
+			}
+			insert.executeBatch();
+			unavailable.executeBatch();
+		}
+		return active;
+	}
+
+	private String title(int id) {
+		return TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + "의 " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]
+				+ " " + id;
+	}
+
+	private String author() {
+		return FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+	}
+
+	/**
+	 * 1..n 중 하나를 Zipf 분포(순위 k의 확률이 1/k^s에 비례)로 뽑는 표본기
+	 */
+	private static final class ZipfSampler {
+
+		private final double[] cumulative;
+		private final Random random;
+
+		private ZipfSampler(int n, double exponent, Random random) {
+			this.cumulative = new double[n];
+			this.random = random;
+			double sum = 0;
+			for (int k = 1; k <= n; k++) {
+				sum += 1.0 / Math.pow(k, exponent);
+				cumulative[k - 1] = sum;
+			}
+			for (int k = 0; k < n; k++) {
+				cumulative[k] /= sum;
+			}
+		}
+
+		private int next() {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble());
+			return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1) + 1;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.libraryapi.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 엔드포인트 하나의 응답 시간과 결과를 모으는 기록기 (스레드마다 하나씩 사용하고 끝나면 합침)
+ */
+final class LatencyRecorder {
+
+	private long[] latenciesMicros = new long[1024];
+	private int count;
+	private long clientErrors;
+	private long serverErrors;
+
+	void record(long latencyNanos, int status) {
+		if (count == latenciesMicros.length) {
+			latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+		}
+		latenciesMicros[count++] = latencyNanos / 1_000;
+		if (status >= 500 || status < 0) {
+			serverErrors++;
+		} else if (status >= 400) {
+			clientErrors++;
+		}
+	}
+
+	void merge(LatencyRecorder other) {
+		if (count + other.count > latenciesMicros.length) {
+			latenciesMicros = Arrays.copyOf(latenciesMicros, count + other.count);
+		}
+		System.arraycopy(other.latenciesMicros, 0, latenciesMicros, count, other.count);
+		count += other.count;
+		clientErrors += other.clientErrors;
+		serverErrors += other.serverErrors;
+	}
+
+	int count() {
+		return count;
+	}
+
+	long clientErrors() {
+		return clientErrors;
+	}
+
+	long serverErrors() {
+		return serverErrors;
+	}
+
+	/**
+	 * 백분위 응답 시간(ms)을 반환합니다. 호출 전에 sort()가 필요합니다.
+	 */
+	double percentileMillis(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+		return latenciesMicros[Math.max(0, Math.min(index, count - 1))] / 1_000.0;
+	}
+
+	void sort() {
+		Arrays.sort(latenciesMicros, 0, count);
+	}
+}
@@ -0,0 +1,216 @@
+package com.example.libraryapi.loadtest;
+
+import com.example.libraryapi.common.util.CursorUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 애플리케이션에 조회/검색/대여/반납이 섞인 요청을 보내고 엔드포인트별 처리량과 응답 시간 백분위를 보고하는 부하 테스트
+ * 각 스레드는 응답을 받으면 바로 다음 요청을 보냅니다(closed loop). 워밍업 구간의 결과는 집계하지 않습니다.
+ * DataGenerator로 만든 DB(도서 ID 1..books)를 대상으로 한다고 가정합니다.
+ *
+ * <pre>
+ * ./gradlew loadTest --args="--base-url=http://localhost:8080 --books=100000 --threads=32 --duration=60"
+ * </pre>
+ *
+ * 옵션 (괄호는 기본값)
+ * <ul>
+ *     <li>base-url (http://localhost:8080), books (100000): 대상 서버, 도서 ID 범위</li>
+ *     <li>threads (32), warmup (10초), duration (60초): 동시 요청 수, 워밍업/측정 시간</li>
+ *     <li>mix (list=20,get=40,search=20,borrow=10,return=10): 요청 종류별 비중</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+	private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+	private static final String[] SEARCH_WORDS = {"데이터", "역사", "우주", "경제", "사랑", "인공지능", "여행", "철학"};
+
+	/**
+	 * 요청 종류 (엔드포인트)
+	 */
+	enum Endpoint {
+		LIST("GET /api/books"),
+		GET("GET /api/books/{id}"),
+		SEARCH("GET /api/books/search"),
+		BORROW("POST /api/rentals/borrow"),
+		RETURN("PUT /api/rentals/{id}/return");
+
+		private final String label;
+
+		Endpoint(String label) {
+			this.label = label;
+		}
+	}
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	private final ConcurrentLinkedQueue<String> activeRentals = new ConcurrentLinkedQueue<>();
+
+	private final String baseUrl;
+	private final int books;
+	private final int threads;
+	private final Duration warmup;
+	private final Duration duration;
+	private final Endpoint[] mix;
+
+	private LoadTest(Options options) {
+		this.baseUrl = options.string("base-url", "http://localhost:8080");
+		this.books = options.integer("books", 100_000);
+		this.threads = options.integer("threads", 32);
+		this.warmup = options.duration("warmup", Duration.ofSeconds(10));
+		this.duration = options.duration("duration", Duration.ofSeconds(60));
+		this.mix = parseMix(options.string("mix", "list=20,get=40,search=20,borrow=10,return=10"));
+	}
+
+	public static void main(String[] args) throws Exception {
+		new LoadTest(new Options(args)).run();
+	}
+
+	private void run() throws Exception {
+		System.out.printf("Load test against %s: %d threads, warmup %ds, measurement %ds%n",
+				baseUrl, threads, warmup.toSeconds(), duration.toSeconds());
+
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long measureUntil = measureFrom + duration.toNanos();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> work(measureFrom, measureUntil)));
+			}
+
+			Map<Endpoint, LatencyRecorder> total = new EnumMap<>(Endpoint.class);
+			for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+				future.get().forEach((endpoint, recorder) ->
+						total.computeIfAbsent(endpoint, e -> new LatencyRecorder()).merge(recorder));
+			}
+			report(total);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Map<Endpoint, LatencyRecorder> work(long measureFrom, long measureUntil) {
+		Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < measureUntil) {
+			Endpoint endpoint = mix[random.nextInt(mix.length)];
+			String rentalId = null;
+			if (endpoint == Endpoint.RETURN) {
+				rentalId = activeRentals.poll();
+				if (rentalId == null) {
+					endpoint = Endpoint.BORROW;
+				}
+			}
+
+			long start = System.nanoTime();
+			int status = send(endpoint, rentalId, random);
+			long end = System.nanoTime();
+			if (start >= measureFrom && end <= measureUntil) {
+				recorders.computeIfAbsent(endpoint, e -> new LatencyRecorder()).record(end - start, status);
+			}
+		}
+		return recorders;
+	}
+
+	/**
+	 * 요청을 보내고 응답 상태 코드를 반환합니다. 연결 오류는 -1입니다.
+	 */
+	private int send(Endpoint endpoint, String rentalId, ThreadLocalRandom random) {
+		int bookId = 1 + random.nextInt(books);
+		HttpRequest request = switch (endpoint) {
+			case LIST -> get("/api/books?size=20&cursor=" + CursorUtils.encode(random.nextInt(books)));
+			case GET -> get("/api/books/" + bookId);
+			case SEARCH -> get("/api/books/search?title="
+					+ URLEncoder.encode(SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)], StandardCharsets.UTF_8));
+			case BORROW -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/rentals/borrow"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(
+							"{\"bookId\":" + bookId + ",\"dueDate\":\"" + LocalDate.now().plusDays(14) + "\"}"))
+					.build();
+			case RETURN -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/rentals/" + rentalId + "/return"))
+					.PUT(HttpRequest.BodyPublishers.noBody())
+					.build();
+		};
+
+		try {
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			if (endpoint == Endpoint.BORROW && response.statusCode() == 201) {
+				Matcher matcher = ID_PATTERN.matcher(response.body());
+				if (matcher.find()) {
+					activeRentals.add(matcher.group(1));
+				}
+			}
+			return response.statusCode();
+		} catch (IOException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+	}
+
+	private void report(Map<Endpoint, LatencyRecorder> recorders) {
+		double seconds = duration.toNanos() / 1_000_000_000.0;
+		System.out.printf("%-30s %9s %9s %7s %7s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "req/s", "4xx", "5xx/io", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+		LatencyRecorder all = new LatencyRecorder();
+		for (Map.Entry<Endpoint, LatencyRecorder> entry : recorders.entrySet()) {
+			all.merge(entry.getValue());
+			print(entry.getKey().label, entry.getValue(), seconds);
+		}
+		print("total", all, seconds);
+	}
+
+	private static void print(String label, LatencyRecorder recorder, double seconds) {
+		recorder.sort();
+		System.out.printf("%-30s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f%n",
+				label, recorder.count(), recorder.count() / seconds, recorder.clientErrors(), recorder.serverErrors(),
+				recorder.percentileMillis(50), recorder.percentileMillis(90), recorder.percentileMillis(99),
+				recorder.percentileMillis(100));
+	}
+
+	/**
+	 * "list=20,get=40,..." 형식의 비중을 가중치만큼 반복한 배열로 바꿉니다.
+	 */
+	private static Endpoint[] parseMix(String mix) {
+		List<Endpoint> weighted = new ArrayList<>();
+		for (String part : mix.split(",")) {
+			String[] pair = part.trim().split("=");
+			Endpoint endpoint = Endpoint.valueOf(pair[0].trim().toUpperCase());
+			for (int i = 0; i < Integer.parseInt(pair[1].trim()); i++) {
+				weighted.add(endpoint);
+			}
+		}
+		if (weighted.isEmpty()) {
+			throw new IllegalArgumentException("Request mix is empty: " + mix);
+		}
+		return weighted.toArray(Endpoint[]::new);
+	}
+}
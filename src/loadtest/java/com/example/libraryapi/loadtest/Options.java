@@ -0,0 +1,50 @@
+package com.example.libraryapi.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --이름=값 형식의 명령행 인자
+ */
+final class Options {
+
+	private final Map<String, String> values = new HashMap<>();
+
+	Options(String[] args) {
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+	}
+
+	String string(String name, String defaultValue) {
+		return values.getOrDefault(name, defaultValue);
+	}
+
+	int integer(String name, int defaultValue) {
+		return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+	}
+
+	long longValue(String name, long defaultValue) {
+		return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+	}
+
+	double decimal(String name, double defaultValue) {
+		return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+	}
+
+	/**
+	 * 초 단위 정수(예: 60) 또는 ISO-8601 기간(예: PT1M)
+	 */
+	Duration duration(String name, Duration defaultValue) {
+		String value = values.get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+	}
+}
@@ -0,0 +1,279 @@
+package com.example.libraryapi.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 애플리케이션을 실행 방식별로 여러 번 새로 띄워 첫 요청이 성공하기까지 걸린 시간(time-to-first-request)을 측정하는 벤치마크
+ * 프로세스 시작 직전부터 첫 요청이 200으로 응답할 때까지를 재며, 애플리케이션 로그의 "Started ... in N seconds" 값도 함께 보고합니다.
+ * 첫 요청 직후의 RSS(/proc/[pid]/status의 VmRSS, Linux 전용)와 로드된 클래스 수(jvm_classes_loaded_classes 메트릭)도 기록하므로
+ * 전체 jar와 -Plean jar를 각각 실행해 비교할 수 있습니다.
+ * 각 실행 방식의 첫 warmup-runs번은 OS 파일 캐시를 채우는 용도로 집계하지 않습니다.
+ *
+ * <pre>
+ * ./gradlew startupBenchmark             # 기본 실행 vs fast-start 프로파일 (+ AppCDS)
+ * ./gradlew startupBenchmark -PfastStart # AOT 처리한 빌드로 AOT, AOT + AppCDS까지 비교
+ * ./gradlew startupBenchmark -Plean      # springdoc을 뺀 경량 jar로 같은 비교
+ * </pre>
+ *
+ * 실행 방식
+ * <ul>
+ *     <li>default: 기본 설정 (시작할 때마다 schema.sql/data.sql 실행, ddl-auto=update)</li>
+ *     <li>fast-start: fast-start 프로파일 (기존 DB 재사용, ddl-auto=none)</li>
+ *     <li>fast-start+cds: fast-start + AppCDS 아카이브 (archive 옵션이 있을 때)</li>
+ *     <li>fast-start+aot, fast-start+aot+cds: -Dspring.aot.enabled=true 추가 (aot=true일 때)</li>
+ * </ul>
+ *
+ * 옵션 (괄호는 기본값)
+ * <ul>
+ *     <li>jar (필수): 압축을 푼 애플리케이션 jar (./gradlew extractBootJar 결과)</li>
+ *     <li>archive (없음), aot (false): AppCDS 아카이브 경로, AOT 처리한 빌드인지 여부</li>
+ *     <li>db (./build/fast-start/startup.db): 측정에 사용할 DB 파일 (default 방식은 실행마다 다시 초기화)</li>
+ *     <li>runs (5), warmup-runs (1), timeout (120초): 실행 방식별 측정 횟수, 버리는 실행 횟수, 한 번의 시작 제한 시간</li>
+ *     <li>port (18080), path (/api/categories): 첫 요청을 보낼 포트와 경로 (메트릭은 port + 1의 관리 포트에서 조회)</li>
+ *     <li>label (jar 파일 이름): 결과 표 제목에 표시할 빌드 이름</li>
+ * </ul>
+ */
+public final class StartupBenchmark {
+
+	private static final String MAIN_CLASS = "com.example.libraryapi.LibraryApiApplication";
+	private static final Pattern STARTED_PATTERN = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+	private static final Pattern LOADED_CLASSES_PATTERN =
+			Pattern.compile("(?m)^jvm_classes_loaded_classes(?:\\{[^}]*})? ([0-9.eE+]+)$");
+	private static final Pattern RSS_PATTERN = Pattern.compile("(?m)^VmRSS:\\s+(\\d+) kB$");
+	private static final long POLL_INTERVAL_MILLIS = 10;
+
+	/**
+	 * 실행 방식 하나의 JVM 옵션과 애플리케이션 인자
+	 */
+	private record Variant(String name, List<String> jvmArgs, List<String> appArgs) {}
+
+	/**
+	 * 한 번의 시작 결과
+	 *
+	 * @param firstRequestMillis 프로세스 시작부터 첫 200 응답까지의 시간
+	 * @param startedMillis      애플리케이션이 로그로 남긴 컨텍스트 시작 시간 (로그에서 찾지 못하면 -1)
+	 * @param rssMiB             첫 요청 직후의 RSS (측정할 수 없으면 -1)
+	 * @param loadedClasses      첫 요청 직후 로드되어 있는 클래스 수 (측정할 수 없으면 -1)
+	 */
+	private record Sample(double firstRequestMillis, double startedMillis, double rssMiB, double loadedClasses) {}
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(1))
+			.build();
+
+	private final String java = ProcessHandle.current().info().command().orElse("java");
+	private final Path jar;
+	private final String archive;
+	private final boolean aot;
+	private final Path db;
+	private final int runs;
+	private final int warmupRuns;
+	private final Duration timeout;
+	private final int port;
+	private final String path;
+	private final String label;
+
+	private StartupBenchmark(Options options) {
+		String jarOption = options.string("jar", null);
+		if (jarOption == null) {
+			throw new IllegalArgumentException("--jar is required (run ./gradlew extractBootJar first)");
+		}
+		this.jar = Path.of(jarOption);
+		this.archive = options.string("archive", "");
+		this.aot = Boolean.parseBoolean(options.string("aot", "false"));
+		this.db = Path.of(options.string("db", "./build/fast-start/startup.db"));
+		this.runs = options.integer("runs", 5);
+		this.warmupRuns = options.integer("warmup-runs", 1);
+		this.timeout = options.duration("timeout", Duration.ofSeconds(120));
+		this.port = options.integer("port", 18080);
+		this.path = options.string("path", "/api/categories");
+		this.label = options.string("label", jar.getFileName().toString());
+	}
+
+	public static void main(String[] args) throws Exception {
+		new StartupBenchmark(new Options(args)).run();
+	}
+
+	private void run() throws Exception {
+		Files.createDirectories(db.toAbsolutePath().getParent());
+		List<Variant> variants = variants();
+		System.out.printf("Startup benchmark [%s]: %s, %d runs per variant (+%d warmup)%n", label, jar, runs, warmupRuns);
+
+		List<List<Sample>> results = new ArrayList<>();
+		for (Variant variant : variants) {
+			List<Sample> samples = new ArrayList<>();
+			for (int i = 0; i < warmupRuns + runs; i++) {
+				Sample sample = start(variant);
+				if (i >= warmupRuns) {
+					samples.add(sample);
+				}
+			}
+			results.add(samples);
+		}
+
+		System.out.printf("%-20s %14s %14s %14s %14s %12s %12s%n",
+				"variant", "first req min", "first req p50", "first req max", "started p50", "rss p50", "classes p50");
+		for (int i = 0; i < variants.size(); i++) {
+			print(variants.get(i).name(), results.get(i));
+		}
+	}
+
+	private List<Variant> variants() {
+		List<String> common = List.of(
+				"--spring.datasource.url=jdbc:sqlite:" + db,
+				"--server.port=" + port,
+				"--management.server.port=" + (port + 1),
+				"--library.overdue-sweep.cron=-");
+		List<String> fastStart = concat(common, List.of("--spring.profiles.active=fast-start"));
+		List<String> cds = archive.isEmpty() ? List.of() : List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off");
+		List<String> aotEnabled = List.of("-Dspring.aot.enabled=true");
+
+		// default가 먼저 실행되어 측정용 DB를 초기화하고, fast-start 방식들은 그 DB를 재사용합니다.
+		List<Variant> variants = new ArrayList<>();
+		variants.add(new Variant("default", List.of(), common));
+		variants.add(new Variant("fast-start", List.of(), fastStart));
+		if (!cds.isEmpty()) {
+			variants.add(new Variant("fast-start+cds", cds, fastStart));
+		}
+		if (aot) {
+			variants.add(new Variant("fast-start+aot", aotEnabled, fastStart));
+			if (!cds.isEmpty()) {
+				variants.add(new Variant("fast-start+aot+cds", concat(aotEnabled, cds), fastStart));
+			}
+		}
+		return variants;
+	}
+
+	/**
+	 * 애플리케이션을 새 프로세스로 띄우고 첫 요청이 성공하면 종료합니다.
+	 */
+	private Sample start(Variant variant) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(java);
+		command.addAll(variant.jvmArgs());
+		command.addAll(Arrays.asList("-cp", jar.toString(), MAIN_CLASS));
+		command.addAll(variant.appArgs());
+
+		Path log = Files.createTempFile("startup-" + variant.name(), ".log");
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(5))
+				.GET()
+				.build();
+
+		long begin = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(log.toFile())
+				.start();
+		double firstRequestMillis;
+		double rssMiB;
+		double loadedClasses;
+		try {
+			firstRequestMillis = awaitFirstRequest(variant, process, request, begin, log);
+			// 메트릭 조회가 만드는 객체/클래스가 섞이지 않도록 RSS를 먼저 읽습니다.
+			rssMiB = rssMiB(process.pid());
+			loadedClasses = loadedClasses();
+		} finally {
+			stop(process);
+		}
+
+		// "Started ..." 로그는 첫 요청 응답 뒤에 기록될 수 있으므로 프로세스를 종료한 뒤 읽습니다.
+		Sample sample = new Sample(firstRequestMillis, startedMillis(log), rssMiB, loadedClasses);
+		Files.delete(log);
+		return sample;
+	}
+
+	private double awaitFirstRequest(Variant variant, Process process, HttpRequest request, long begin, Path log)
+			throws InterruptedException {
+		long deadline = begin + timeout.toNanos();
+		while (true) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+			}
+			if (System.nanoTime() > deadline) {
+				throw new IllegalStateException(variant.name() + " did not answer within " + timeout + ", see " + log);
+			}
+			if (firstRequestSucceeded(request)) {
+				return (System.nanoTime() - begin) / 1_000_000.0;
+			}
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+		}
+	}
+
+	private boolean firstRequestSucceeded(HttpRequest request) throws InterruptedException {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private double loadedClasses() throws InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + (port + 1) + "/actuator/prometheus"))
+				.timeout(Duration.ofSeconds(5))
+				.GET()
+				.build();
+		try {
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			Matcher matcher = LOADED_CLASSES_PATTERN.matcher(response.body());
+			return response.statusCode() == 200 && matcher.find() ? Double.parseDouble(matcher.group(1)) : -1;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	private static double rssMiB(long pid) {
+		try {
+			Matcher matcher = RSS_PATTERN.matcher(Files.readString(Path.of("/proc", Long.toString(pid), "status")));
+			return matcher.find() ? Long.parseLong(matcher.group(1)) / 1024.0 : -1;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	private static double startedMillis(Path log) throws IOException {
+		Matcher matcher = STARTED_PATTERN.matcher(Files.readString(log));
+		return matcher.find() ? Double.parseDouble(matcher.group(1)) * 1000 : -1;
+	}
+
+	private static void stop(Process process) throws InterruptedException {
+		process.destroy();
+		if (!process.waitFor(30, TimeUnit.SECONDS)) {
+			process.destroyForcibly().waitFor();
+		}
+	}
+
+	private static void print(String name, List<Sample> samples) {
+		double[] firstRequest = samples.stream().mapToDouble(Sample::firstRequestMillis).sorted().toArray();
+		double[] started = samples.stream().mapToDouble(Sample::startedMillis).sorted().toArray();
+		double[] rss = samples.stream().mapToDouble(Sample::rssMiB).sorted().toArray();
+		double[] classes = samples.stream().mapToDouble(Sample::loadedClasses).sorted().toArray();
+		System.out.printf("%-20s %11.0f ms %11.0f ms %11.0f ms %11.0f ms %8.0f MiB %12.0f%n",
+				name, firstRequest[0], median(firstRequest), firstRequest[firstRequest.length - 1], median(started),
+				median(rss), median(classes));
+	}
+
+	private static double median(double[] sorted) {
+		return sorted[sorted.length / 2];
+	}
+
+	private static List<String> concat(List<String> first, List<String> second) {
+		List<String> result = new ArrayList<>(first);
+		result.addAll(second);
+		return result;
+	}
+}
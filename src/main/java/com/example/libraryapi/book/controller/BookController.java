@@ -1,13 +1,20 @@
 package com.example.libraryapi.book.controller;
 
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto;
 import com.example.libraryapi.book.dto.BookCategoryUpdateDto;
 import com.example.libraryapi.book.dto.BookRequestDto;
 import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookSearchResult;
 import com.example.libraryapi.book.dto.BookStatusUpdateDto;
+import com.example.libraryapi.book.service.BookBulkImportService;
+import com.example.libraryapi.book.service.BookExportService;
 import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.export.ExportFormat;
 import com.example.libraryapi.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +22,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -27,7 +41,14 @@ import java.util.List;
 @Tag(name = "Book API", description = "도서 관련 API")
 public class BookController {
 
+	/**
+	 * 검색 결과가 최대 건수에서 잘렸는지 알려주는 응답 헤더
+	 */
+	public static final String SEARCH_TRUNCATED_HEADER = "X-Result-Truncated";
+
 	private final BookService bookService;
+	private final BookExportService bookExportService;
+	private final BookBulkImportService bookBulkImportService;
 
 	@PostMapping
 	@Operation(summary = "도서 등록", description = "신규 도서를 등록합니다. 최소 1개 이상의 카테고리가 필요합니다.")
@@ -40,32 +61,92 @@ public class BookController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(bookService.createBook(request));
 	}
 
+	@PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	@Operation(summary = "도서 일괄 등록", description = "도서 등록 요청의 JSON 배열 또는 NDJSON을 청크 단위로 일괄 등록합니다. 잘못된 행은 건너뛰고 결과에 실패 사유와 함께 기록합니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "일괄 등록 완료 (청크별 처리량과 실패한 행 포함)")
+	})
+	public ResponseEntity<BookBulkImportResponseDto> importBooks(InputStream body) throws IOException {
+		return ResponseEntity.ok(bookBulkImportService.importBooks(body));
+	}
+
 	@GetMapping
-	@Operation(summary = "도서 목록 조회", description = "전체 도서 목록을 조회합니다.")
-	public ResponseEntity<List<BookResponseDto>> getAllBooks() {
-		return ResponseEntity.ok(bookService.getAllBooks());
+	@Operation(summary = "도서 목록 조회", description = "도서 목록을 ID 순으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회합니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "도서 목록 조회 성공"),
+			@ApiResponse(responseCode = "304", description = "도서 목록 변경 없음 (If-None-Match / If-Modified-Since)"),
+			@ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<CursorPageResponseDto<BookResponseDto>> getAllBooks(
+			@Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+
+			@Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(required = false) Integer size,
+			WebRequest webRequest) {
+		if (bookService.getBooksVersion().checkNotModified(webRequest)) {
+			return null;
+		}
+		return ResponseEntity.ok(bookService.getAllBooks(cursor, size));
 	}
 
 	@GetMapping("/{id}")
 	@Operation(summary = "도서 조회", description = "단일 도서 정보를 조회합니다.")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "도서 조회 성공"),
+			@ApiResponse(responseCode = "304", description = "도서 변경 없음 (If-None-Match / If-Modified-Since)"),
 			@ApiResponse(responseCode = "404", description = "도서를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
 	public ResponseEntity<BookResponseDto> getBookById(
-			@Parameter(description = "조회할 도서 ID", example = "1") @PathVariable Integer id) {
+			@Parameter(description = "조회할 도서 ID", example = "1") @PathVariable Integer id,
+			WebRequest webRequest) {
+		if (bookService.getBookVersion(id).checkNotModified(webRequest)) {
+			return null;
+		}
 		return ResponseEntity.ok(bookService.getBookById(id));
 	}
 
 	@GetMapping("/search")
-	@Operation(summary = "도서 검색", description = "제목, 저자, 카테고리 등 조건에 맞는 도서를 검색합니다. 여러 조건을 동시에 적용할 수 있습니다.")
+	@Operation(summary = "도서 검색", description = "제목, 저자, 카테고리 등 조건에 맞는 도서를 검색합니다. 여러 조건을 동시에 적용할 수 있습니다. "
+			+ "결과는 최대 " + BookService.MAX_SEARCH_RESULTS + "건이며, 조건에 맞는 도서가 더 있으면 "
+			+ SEARCH_TRUNCATED_HEADER + ": true 헤더로 알립니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "도서 검색 성공", headers = @Header(name = SEARCH_TRUNCATED_HEADER,
+					description = "결과가 최대 건수에서 잘렸으면 true", schema = @Schema(type = "boolean"))),
+			@ApiResponse(responseCode = "304", description = "도서 변경 없음 (If-None-Match / If-Modified-Since)")
+	})
 	public ResponseEntity<List<BookResponseDto>> searchBooks(
 			@Parameter(description = "저자 이름으로 검색 (부분 일치)", example = "J.K. 롤링") @RequestParam(required = false) String author,
 
 			@Parameter(description = "도서 제목으로 검색 (부분 일치)", example = "해리포터") @RequestParam(required = false) String title,
 
-			@Parameter(description = "카테고리 이름으로 검색 (정확히 일치)", example = "소설") @RequestParam(required = false) String category) {
-		return ResponseEntity.ok(bookService.searchBooks(author, title, category));
+			@Parameter(description = "카테고리 이름으로 검색 (정확히 일치)", example = "소설") @RequestParam(required = false) String category,
+			WebRequest webRequest) {
+		if (bookService.getBooksVersion().checkNotModified(webRequest)) {
+			return null;
+		}
+		BookSearchResult result = bookService.searchBooks(author, title, category);
+		return ResponseEntity.ok()
+				.header(SEARCH_TRUNCATED_HEADER, String.valueOf(result.truncated()))
+				.body(result.books());
+	}
+
+	@GetMapping("/export")
+	@Operation(summary = "도서 목록 내보내기", description = "전체 도서를 NDJSON 또는 CSV 형식으로 스트리밍하여 내려받습니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "도서 목록 내보내기 성공"),
+			@ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<StreamingResponseBody> exportBooks(
+			@Parameter(description = "내보내기 형식 (ndjson, csv)", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = outputStream -> bookExportService.exportBooks(outputStream, exportFormat);
+
+		return ResponseEntity.ok()
+				.contentType(exportFormat.getMediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename("books." + exportFormat.getFileExtension())
+						.build()
+						.toString())
+				.body(body);
 	}
 
 	@PatchMapping("/{id}/status")
@@ -0,0 +1,57 @@
+package com.example.libraryapi.book.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "도서 일괄 등록 결과 DTO")
+public record BookBulkImportResponseDto(
+	@Schema(description = "읽은 전체 행 수", example = "50000")
+	long totalRows,
+
+	@Schema(description = "등록된 도서 수", example = "49998")
+	long importedRows,
+
+	@Schema(description = "실패한 행 수", example = "2")
+	long failedRows,
+
+	@Schema(description = "전체 소요 시간 (ms)", example = "4210")
+	long elapsedMillis,
+
+	@Schema(description = "초당 처리 행 수", example = "11876.5")
+	double rowsPerSecond,
+
+	@Schema(description = "청크별 처리 결과")
+	List<ChunkResult> chunks,
+
+	@Schema(description = "실패한 행 목록 (최대 library.import.max-reported-failures건)")
+	List<FailedRow> failures
+) {
+
+	@Schema(description = "청크 처리 결과")
+	public record ChunkResult(
+		@Schema(description = "청크 번호 (1부터 시작)", example = "1")
+		int chunk,
+
+		@Schema(description = "등록된 도서 수", example = "1000")
+		int importedRows,
+
+		@Schema(description = "실패한 행 수", example = "0")
+		int failedRows,
+
+		@Schema(description = "소요 시간 (ms)", example = "85")
+		long elapsedMillis,
+
+		@Schema(description = "초당 처리 행 수", example = "11764.7")
+		double rowsPerSecond
+	) {}
+
+	@Schema(description = "실패한 행")
+	public record FailedRow(
+		@Schema(description = "입력 내 행 번호 (1부터 시작)", example = "17")
+		long row,
+
+		@Schema(description = "실패 사유", example = "카테고리를 찾을 수 없습니다. ID: 99")
+		String reason
+	) {}
+}
@@ -0,0 +1,10 @@
+package com.example.libraryapi.book.dto;
+
+/**
+ * (도서 ID, 카테고리) 쌍 프로젝션
+ */
+public record BookCategoryRow(
+		Integer bookId,
+		Integer categoryId,
+		String categoryName) {
+}
@@ -0,0 +1,16 @@
+package com.example.libraryapi.book.dto;
+
+import com.example.libraryapi.book.entity.BookStatus;
+
+/**
+ * 도서 내보내기용 (도서, 카테고리) 조인 결과 행
+ * 카테고리가 없는 도서는 categoryId, categoryName이 null입니다.
+ */
+public record BookExportRow(
+		Integer id,
+		String title,
+		String author,
+		BookStatus status,
+		Integer categoryId,
+		String categoryName) {
+}
@@ -4,7 +4,10 @@ import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.entity.BookStatus;
 import com.example.libraryapi.category.dto.CategoryResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,4 +51,25 @@ public record BookResponseDto(
 
 		return books.stream().map(BookResponseDto::from).collect(Collectors.toList());
 	}
+
+	/**
+	 * 도서 프로젝션과 (도서 ID, 카테고리) 쌍으로부터 BookResponseDto 리스트를 생성합니다.
+	 * 결과는 books의 순서를 따릅니다.
+	 */
+	public static List<BookResponseDto> listFrom(List<BookSummary> books, List<BookCategoryRow> categoryRows) {
+		Map<Integer, Set<CategoryResponseDto>> categoriesByBookId = new HashMap<>();
+		for (BookCategoryRow row : categoryRows) {
+			categoriesByBookId.computeIfAbsent(row.bookId(), id -> new HashSet<>())
+					.add(new CategoryResponseDto(row.categoryId(), row.categoryName()));
+		}
+
+		return books.stream()
+				.map(book -> new BookResponseDto(
+						book.id(),
+						book.title(),
+						book.author(),
+						book.status(),
+						categoriesByBookId.getOrDefault(book.id(), Set.of())))
+				.collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,12 @@
+package com.example.libraryapi.book.dto;
+
+import java.util.List;
+
+/**
+ * 도서 검색 결과
+ *
+ * @param books     검색된 도서 (최대 BookService.MAX_SEARCH_RESULTS건)
+ * @param truncated 조건에 맞는 도서가 최대 건수보다 많아 일부만 반환했는지 여부
+ */
+public record BookSearchResult(List<BookResponseDto> books, boolean truncated) {
+}
@@ -0,0 +1,14 @@
+package com.example.libraryapi.book.dto;
+
+import com.example.libraryapi.book.entity.BookStatus;
+
+/**
+ * 목록/검색 응답용 도서 프로젝션 (카테고리는 BookCategoryRow로 따로 조회)
+ * 영속성 컨텍스트에 엔티티와 스냅샷을 남기지 않습니다.
+ */
+public record BookSummary(
+		Integer id,
+		String title,
+		String author,
+		BookStatus status) {
+}
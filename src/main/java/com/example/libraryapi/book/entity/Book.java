@@ -1,12 +1,15 @@
 package com.example.libraryapi.book.entity;
 
 import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -15,6 +18,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "books")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOOK_REGION)
 @Getter
 @Setter
 @Builder
@@ -42,6 +47,7 @@ public class Book {
             joinColumns = @JoinColumn(name = "book_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOOK_CATEGORIES_REGION)
     @Builder.Default
     private Set<Category> categories = new HashSet<>();
 
@@ -78,19 +84,14 @@ public class Book {
     }
     
     // 카테고리 전체 교체 메서드
+    // 연관관계의 주인(book_categories)만 변경하여, 카테고리마다 역방향 도서 컬렉션을 로딩하지 않음
+    // 컬렉션만 바뀌면 @PreUpdate가 호출되지 않으므로 수정일시(ETag 기준)를 직접 갱신
     public void updateCategories(Set<Category> newCategories) {
-        // 기존 카테고리에서 책 정보 제거
-        for (Category category : this.categories) {
-            category.getBooks().remove(this);
-        }
-        
-        // 새 카테고리로 설정
         this.categories.clear();
         if (newCategories != null) {
-            for (Category category : newCategories) {
-                addCategory(category);
-            }
+            this.categories.addAll(newCategories);
         }
+        this.updatedAt = LocalDateTime.now();
     }
     
     @Override
@@ -1,25 +1,93 @@
 package com.example.libraryapi.book.repository;
 
+import com.example.libraryapi.book.dto.BookCategoryRow;
+import com.example.libraryapi.book.dto.BookExportRow;
+import com.example.libraryapi.book.dto.BookSummary;
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.common.db.QueryPlanChecker;
+import com.example.libraryapi.common.dto.VersionStamp;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Integer> {
     
-    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.categories WHERE :category MEMBER OF b.categories")
-    List<Book> findByCategories(Category category);
+    /**
+     * 카테고리에 속한 도서를 전체 카테고리와 함께 조회합니다.
+     * 카테고리 조건은 book_categories(category_id, book_id) 인덱스를 타는 서브쿼리로 걸러,
+     * 도서마다 상관 서브쿼리를 실행하는 MEMBER OF 전체 스캔을 피합니다.
+     */
+    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.categories " +
+           "WHERE b.id IN (SELECT cb.id FROM Book cb JOIN cb.categories c WHERE c = :category)")
+    List<Book> findByCategories(@Param("category") Category category);
+
+    /**
+     * 카테고리에 속한 도서 ID를 ID 순으로 조회합니다. (book_categories 커버링 인덱스만 사용)
+     */
+    @Query("SELECT b.id FROM Book b JOIN b.categories c WHERE c.id = :categoryId ORDER BY b.id")
+    List<Integer> findIdsByCategoryId(@Param("categoryId") Integer categoryId, Pageable pageable);
     
-    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.categories c " +
-           "WHERE (:categoryName IS NULL OR c.name = :categoryName) " +
+    /**
+     * 검색 조건에 맞는 도서 ID를 조회합니다.
+     * 카테고리 조건은 카테고리 ID(CategoryRegistry에서 이름으로 변환)로 필터링하고,
+     * 도서의 전체 카테고리는 findCategoryRowsByBookIdIn으로 별도 조회합니다.
+     * 부분 문자열 검색이라 전체 스캔이 불가피하므로 실행 계획 점검(QueryPlanChecker)에서 제외합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_COMMENT, value = QueryPlanChecker.FULL_SCAN_EXPECTED))
+    @Query("SELECT DISTINCT b.id FROM Book b LEFT JOIN b.categories c " +
+           "WHERE (:categoryId IS NULL OR c.id = :categoryId) " +
            "AND (:title IS NULL OR b.title LIKE %:title%) " +
-           "AND (:author IS NULL OR b.author LIKE %:author%)")
-    List<Book> findByFilters(@Param("categoryName") String categoryName, 
-                            @Param("title") String title, 
-                            @Param("author") String author);
-} 
\ No newline at end of file
+           "AND (:author IS NULL OR b.author LIKE %:author%) " +
+           "ORDER BY b.id")
+    List<Integer> findIdsByFilters(@Param("categoryId") Integer categoryId, 
+                                   @Param("title") String title, 
+                                   @Param("author") String author,
+                                   Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션: 지정한 ID 이후의 도서 ID를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT b.id FROM Book b WHERE b.id > :after ORDER BY b.id")
+    List<Integer> findIdsAfter(@Param("after") Integer after, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 도서를 ID 순으로 조회합니다.
+     * DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     */
+    @Query("SELECT new com.example.libraryapi.book.dto.BookSummary(b.id, b.title, b.author, b.status) " +
+           "FROM Book b WHERE b.id IN :ids ORDER BY b.id")
+    List<BookSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * ID 목록에 해당하는 도서의 (도서 ID, 카테고리) 쌍을 조회합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.book.dto.BookCategoryRow(b.id, c.id, c.name) " +
+           "FROM Book b JOIN b.categories c WHERE b.id IN :ids")
+    List<BookCategoryRow> findCategoryRowsByBookIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * 내보내기용으로 전체 도서와 카테고리를 ID 순으로 순방향 스트리밍합니다.
+     * DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다. 트랜잭션 안에서 사용 후 반드시 닫아야 합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.book.dto.BookExportRow(b.id, b.title, b.author, b.status, c.id, c.name) " +
+           "FROM Book b LEFT JOIN b.categories c ORDER BY b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<BookExportRow> streamAllForExport();
+
+    /**
+     * 도서 목록의 조건부 GET 처리를 위해 전체 도서의 최종 수정일시와 도서 수를 조회합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.common.dto.VersionStamp(MAX(b.updatedAt), COUNT(b)) FROM Book b")
+    VersionStamp findVersionStamp();
+}
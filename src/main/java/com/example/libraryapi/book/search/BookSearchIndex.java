@@ -0,0 +1,463 @@
+package com.example.libraryapi.book.search;
+
+import com.example.libraryapi.book.entity.Book;
+import com.example.libraryapi.category.entity.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 제목/저자 검색을 위한 인메모리 n-gram 역색인입니다.
+ * 정규화한 문자열을 1-gram, 2-gram으로 분해해 정렬된 도서 ID 배열(posting list)에 저장하므로
+ * LIKE '%검색어%' 전체 스캔 없이 한국어 부분 문자열 검색이 가능합니다.
+ * 애플리케이션 시작 시 DB에서 전체 색인을 만들고, 이후에는 도서 등록/카테고리 변경 커밋 시 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+	private static final String REBUILD_SQL = "SELECT b.id, b.title, b.author, c.name FROM books b "
+			+ "LEFT JOIN book_categories bc ON bc.book_id = b.id "
+			+ "LEFT JOIN categories c ON c.id = bc.category_id "
+			+ "ORDER BY b.id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock rebuildLock = new ReentrantLock();
+	private IndexData data = new IndexData();
+	private List<Document> indexedDuringRebuild;
+	private volatile boolean ready;
+
+	/**
+	 * DB의 전체 도서로 색인을 다시 만듭니다.
+	 * DB를 읽는 동안에는 락 없이 새 색인을 만들고, 교체할 때만 짧게 쓰기 락을 잡습니다.
+	 * 재구성 중에 커밋된 도서(index 호출)는 기존 색인에 바로 반영하는 동시에 따로 모아 두었다가,
+	 * 교체 직전에 새 색인에 다시 반영해 누락되지 않도록 합니다.
+	 * 읽기 전용 트랜잭션으로 실행해 단일 쓰기 커넥션 대신 읽기 커넥션을 사용합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		rebuildLock.lock();
+		try {
+			long start = System.nanoTime();
+			collectIndexedDuringRebuild(true);
+			IndexData rebuilt = new IndexData();
+			try {
+				RebuildCollector collector = new RebuildCollector(rebuilt);
+				jdbcTemplate.query(REBUILD_SQL, collector);
+				collector.flush();
+			} catch (RuntimeException e) {
+				collectIndexedDuringRebuild(false);
+				throw e;
+			}
+			swapIn(rebuilt);
+			log.info("Book search index rebuilt: {} books in {} ms",
+					rebuilt.documents.size(), (System.nanoTime() - start) / 1_000_000);
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+
+	private void collectIndexedDuringRebuild(boolean collect) {
+		lock.writeLock().lock();
+		try {
+			indexedDuringRebuild = collect ? new ArrayList<>() : null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 재구성 중에 반영된 도서를 새 색인에 다시 반영한 뒤 색인을 교체합니다.
+	 */
+	private void swapIn(IndexData rebuilt) {
+		lock.writeLock().lock();
+		try {
+			indexedDuringRebuild.forEach(rebuilt::put);
+			indexedDuringRebuild = null;
+			data = rebuilt;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인이 검색 가능한 상태인지 반환합니다.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 도서를 색인에 추가하거나 갱신합니다.
+	 */
+	public void index(Integer id, String title, String author, Collection<String> categoryNames) {
+		Document document = new Document(id, normalize(title), normalize(author), Set.copyOf(categoryNames));
+		lock.writeLock().lock();
+		try {
+			data.put(document);
+			if (indexedDuringRebuild != null) {
+				indexedDuringRebuild.add(document);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 후 도서를 색인에 반영합니다.
+	 * 카테고리 이름은 호출 시점(트랜잭션 내부)에 미리 읽어 둡니다.
+	 */
+	public void indexAfterCommit(Book book) {
+		Integer id = book.getId();
+		String title = book.getTitle();
+		String author = book.getAuthor();
+		Set<String> categoryNames = book.getCategories().stream()
+				.map(Category::getName)
+				.collect(Collectors.toSet());
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			index(id, title, author, categoryNames);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				index(id, title, author, categoryNames);
+			}
+		});
+	}
+
+	/**
+	 * 제목/저자 부분 일치와 카테고리 이름(정확히 일치) 조건으로 도서를 검색합니다.
+	 * 결과는 관련도(완전 일치 > 접두 일치 > 부분 일치), 제목 길이, ID 순으로 정렬된 도서 ID 목록입니다.
+	 *
+	 * @param title 제목 검색어 (null이면 조건 없음)
+	 * @param author 저자 검색어 (null이면 조건 없음)
+	 * @param category 카테고리 이름 (null이면 조건 없음)
+	 * @param limit 최대 결과 수
+	 * @return 관련도 순 도서 ID 목록
+	 */
+	public List<Integer> search(String title, String author, String category, int limit) {
+		String normalizedTitle = normalize(title);
+		String normalizedAuthor = normalize(author);
+
+		lock.readLock().lock();
+		try {
+			List<PostingList> postings = new ArrayList<>();
+			if (!collectPostings(data.titleGrams, normalizedTitle, postings)
+					|| !collectPostings(data.authorGrams, normalizedAuthor, postings)
+					|| postings.isEmpty()) {
+				return List.of();
+			}
+
+			List<ScoredId> matches = new ArrayList<>();
+			for (int id : intersect(postings)) {
+				Document document = data.documents.get(id);
+				if (document != null && document.matches(normalizedTitle, normalizedAuthor, category)) {
+					int score = score(document.title(), normalizedTitle) + score(document.author(), normalizedAuthor);
+					matches.add(new ScoredId(id, score, document.title().length()));
+				}
+			}
+
+			return matches.stream()
+					.sorted(ScoredId.RANKING)
+					.limit(limit)
+					.map(ScoredId::id)
+					.collect(Collectors.toList());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어의 모든 n-gram에 대한 posting list를 수집합니다.
+	 * 색인에 없는 n-gram이 하나라도 있으면 결과가 없으므로 false를 반환합니다.
+	 */
+	private boolean collectPostings(Map<String, PostingList> grams, String query, List<PostingList> out) {
+		if (query == null) {
+			return true;
+		}
+
+		for (String gram : queryGrams(query)) {
+			PostingList posting = grams.get(gram);
+			if (posting == null) {
+				return false;
+			}
+			out.add(posting);
+		}
+		return true;
+	}
+
+	/**
+	 * 가장 짧은 posting list부터 교집합을 구합니다.
+	 */
+	private int[] intersect(List<PostingList> postings) {
+		postings.sort(Comparator.comparingInt(PostingList::size));
+
+		PostingList smallest = postings.get(0);
+		int[] candidates = Arrays.copyOf(smallest.ids, smallest.size);
+		int count = candidates.length;
+
+		for (int i = 1; i < postings.size() && count > 0; i++) {
+			PostingList posting = postings.get(i);
+			int kept = 0;
+			for (int j = 0; j < count; j++) {
+				if (posting.contains(candidates[j])) {
+					candidates[kept++] = candidates[j];
+				}
+			}
+			count = kept;
+		}
+		return Arrays.copyOf(candidates, count);
+	}
+
+	private int score(String value, String query) {
+		if (query == null) {
+			return 0;
+		}
+		if (value.equals(query)) {
+			return 3;
+		}
+		return value.startsWith(query) ? 2 : 1;
+	}
+
+	/**
+	 * 유니코드 정규화(NFKC), 소문자 변환 후 공백을 제거합니다.
+	 * "해리 포터"와 "해리포터"처럼 띄어쓰기만 다른 검색어도 일치시키기 위함입니다.
+	 */
+	static String normalize(String value) {
+		if (value == null) {
+			return null;
+		}
+
+		String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				builder.append(c);
+			}
+		}
+		return builder.length() == 0 ? null : builder.toString();
+	}
+
+	/**
+	 * 색인용 n-gram: 모든 1-gram과 2-gram
+	 */
+	private static Set<String> indexGrams(String value) {
+		Set<String> grams = new LinkedHashSet<>();
+		if (value == null) {
+			return grams;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			grams.add(value.substring(i, i + 1));
+			if (i + 1 < value.length()) {
+				grams.add(value.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색용 n-gram: 한 글자 검색어는 1-gram, 그 외에는 2-gram
+	 */
+	private static Set<String> queryGrams(String query) {
+		Set<String> grams = new LinkedHashSet<>();
+		if (query.length() == 1) {
+			grams.add(query);
+			return grams;
+		}
+		for (int i = 0; i + 1 < query.length(); i++) {
+			grams.add(query.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	/**
+	 * 색인된 도서 정보 (정규화된 제목/저자)
+	 */
+	private record Document(int id, String title, String author, Set<String> categoryNames) {
+
+		boolean matches(String titleQuery, String authorQuery, String category) {
+			return (titleQuery == null || (title != null && title.contains(titleQuery)))
+					&& (authorQuery == null || (author != null && author.contains(authorQuery)))
+					&& (category == null || categoryNames.contains(category));
+		}
+	}
+
+	private record ScoredId(int id, int score, int titleLength) {
+
+		static final Comparator<ScoredId> RANKING = Comparator.comparingInt(ScoredId::score).reversed()
+				.thenComparingInt(ScoredId::titleLength)
+				.thenComparingInt(ScoredId::id);
+	}
+
+	/**
+	 * 정렬된 도서 ID 배열. 도서 ID는 대부분 증가하는 순서로 추가되므로 끝에 덧붙이는 경우가 대부분입니다.
+	 */
+	private static final class PostingList {
+
+		private int[] ids = new int[4];
+		private int size;
+
+		void add(int id) {
+			if (size == 0 || ids[size - 1] < id) {
+				ensureCapacity();
+				ids[size++] = id;
+				return;
+			}
+
+			int position = Arrays.binarySearch(ids, 0, size, id);
+			if (position >= 0) {
+				return;
+			}
+			int insertAt = -position - 1;
+			ensureCapacity();
+			System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+			ids[insertAt] = id;
+			size++;
+		}
+
+		void remove(int id) {
+			int position = Arrays.binarySearch(ids, 0, size, id);
+			if (position < 0) {
+				return;
+			}
+			System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+			size--;
+		}
+
+		boolean contains(int id) {
+			return Arrays.binarySearch(ids, 0, size, id) >= 0;
+		}
+
+		int size() {
+			return size;
+		}
+
+		private void ensureCapacity() {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, ids.length * 2);
+			}
+		}
+	}
+
+	/**
+	 * 제목/저자 n-gram 색인과 문서 저장소
+	 */
+	private static final class IndexData {
+
+		final Map<String, PostingList> titleGrams = new HashMap<>();
+		final Map<String, PostingList> authorGrams = new HashMap<>();
+		final Map<Integer, Document> documents = new HashMap<>();
+
+		void put(Document document) {
+			Document previous = documents.put(document.id(), document);
+			if (previous != null) {
+				// 카테고리만 바뀐 경우 posting list는 그대로 둔다
+				if (equalsNullable(previous.title(), document.title())
+						&& equalsNullable(previous.author(), document.author())) {
+					return;
+				}
+				removePostings(titleGrams, previous.title(), previous.id());
+				removePostings(authorGrams, previous.author(), previous.id());
+			}
+			addPostings(titleGrams, document.title(), document.id());
+			addPostings(authorGrams, document.author(), document.id());
+		}
+
+		private static void addPostings(Map<String, PostingList> grams, String value, int id) {
+			for (String gram : indexGrams(value)) {
+				grams.computeIfAbsent(gram, key -> new PostingList()).add(id);
+			}
+		}
+
+		private static void removePostings(Map<String, PostingList> grams, String value, int id) {
+			for (String gram : indexGrams(value)) {
+				PostingList posting = grams.get(gram);
+				if (posting != null) {
+					posting.remove(id);
+					if (posting.size() == 0) {
+						grams.remove(gram);
+					}
+				}
+			}
+		}
+
+		private static boolean equalsNullable(String a, String b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+
+	/**
+	 * ID 순으로 정렬된 (도서, 카테고리) 조인 결과를 도서 단위로 묶어 색인에 추가합니다.
+	 */
+	private static final class RebuildCollector implements RowCallbackHandler {
+
+		private final IndexData target;
+		private Integer currentId;
+		private String currentTitle;
+		private String currentAuthor;
+		private final Set<String> currentCategories = new LinkedHashSet<>();
+
+		RebuildCollector(IndexData target) {
+			this.target = target;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			int id = rs.getInt(1);
+			if (currentId == null || currentId != id) {
+				flush();
+				currentId = id;
+				currentTitle = rs.getString(2);
+				currentAuthor = rs.getString(3);
+			}
+			String categoryName = rs.getString(4);
+			if (categoryName != null) {
+				currentCategories.add(categoryName);
+			}
+		}
+
+		void flush() {
+			if (currentId != null) {
+				target.put(new Document(currentId, normalize(currentTitle), normalize(currentAuthor),
+						Set.copyOf(currentCategories)));
+			}
+			currentId = null;
+			currentCategories.clear();
+		}
+	}
+}
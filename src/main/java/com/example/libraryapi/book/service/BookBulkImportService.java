@@ -0,0 +1,296 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto;
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto.ChunkResult;
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto.FailedRow;
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.book.search.BookSearchIndex;
+import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.config.BookImportProperties;
+import com.example.libraryapi.exception.MessageUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 일괄 등록을 처리하는 서비스
+ * 요청 본문을 한 건씩 읽어 청크 단위로 모은 뒤, 청크마다 하나의 트랜잭션에서 JDBC 배치로 등록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookBulkImportService {
+
+    private static final String INSERT_BOOK_SQL =
+            "INSERT INTO books (title, author, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_BOOK_CATEGORY_SQL =
+            "INSERT INTO book_categories (book_id, category_id) VALUES (?, ?)";
+    private static final String LAST_INSERT_ID_SQL = "SELECT last_insert_rowid()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MessageUtils messageUtils;
+    private final BookImportProperties importProperties;
+
+    /**
+     * JSON 배열 또는 NDJSON 형식의 도서 목록을 일괄 등록합니다.
+     * 잘못된 행은 건너뛰고 실패 목록에 기록하며, JSON 구문 오류가 발생하면 그 이전 행까지만 등록합니다.
+     */
+    public BookBulkImportResponseDto importBooks(InputStream inputStream) throws IOException {
+        ImportContext context = new ImportContext();
+        List<PendingRow> chunk = new ArrayList<>(importProperties.chunkSize());
+
+        try (MappingIterator<BookRequestDto> records = objectMapper.readerFor(BookRequestDto.class).readValues(inputStream)) {
+            while (true) {
+                long row = context.totalRows + 1;
+                BookRequestDto request;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    context.totalRows = row;
+                    request = records.nextValue();
+                } catch (JsonMappingException e) {
+                    // 값 형식 오류는 해당 행만 건너뛰고 다음 행부터 계속 읽음
+                    context.totalRows = row;
+                    context.fail(row, invalidRecordMessage(e));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // 구문 오류는 이후 행의 경계를 알 수 없으므로 읽기를 중단
+                    context.totalRows = row;
+                    context.fail(row, messageUtils.getMessageWithDefault("book.import.malformed",
+                            () -> "Import stopped due to malformed JSON: " + e.getOriginalMessage(), e.getOriginalMessage()));
+                    break;
+                }
+
+                String violation = validate(request);
+                if (violation != null) {
+                    context.fail(row, violation);
+                    continue;
+                }
+
+                chunk.add(new PendingRow(row, request));
+                if (chunk.size() >= importProperties.chunkSize()) {
+                    importChunk(chunk, context);
+                    chunk = new ArrayList<>(importProperties.chunkSize());
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, context);
+        }
+
+        return context.toResponse();
+    }
+
+    /**
+     * 청크 하나를 등록하는 내부 메소드
+     * 처음 보는 카테고리 ID만 IN 쿼리 한 번으로 확인한 뒤, 도서와 도서-카테고리 행을 JDBC 배치로 삽입합니다.
+     */
+    private void importChunk(List<PendingRow> chunk, ImportContext context) {
+        long startedAt = System.nanoTime();
+        int failedBefore = (int) context.failedRows;
+
+        resolveCategories(chunk, context);
+
+        List<PendingRow> rows = new ArrayList<>(chunk.size());
+        for (PendingRow pending : chunk) {
+            Integer missingId = pending.request().categoryIds().stream()
+                    .filter(id -> !context.categoryNames.containsKey(id))
+                    .findFirst()
+                    .orElse(null);
+            if (missingId != null) {
+                context.fail(pending.row(), messageUtils.getMessageWithDefault("category.not.found",
+                        () -> "Category not found. ID: " + missingId, missingId));
+            } else {
+                rows.add(pending);
+            }
+        }
+
+        int imported = 0;
+        if (!rows.isEmpty()) {
+            try {
+                List<Integer> bookIds = transactionTemplate.execute(status -> insertRows(rows));
+                indexRows(rows, bookIds, context);
+                imported = rows.size();
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Bulk import chunk {} failed: {}", context.chunks.size() + 1, e.getMessage());
+                String reason = messageUtils.getMessageWithDefault("book.import.chunk.failed",
+                        () -> "Failed to save the chunk containing this row: " + e.getMessage(), e.getMessage());
+                rows.forEach(pending -> context.fail(pending.row(), reason));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        context.importedRows += imported;
+        context.chunks.add(new ChunkResult(
+                context.chunks.size() + 1,
+                imported,
+                (int) context.failedRows - failedBefore,
+                elapsedNanos / 1_000_000,
+                rowsPerSecond(imported, elapsedNanos)));
+    }
+
+    /**
+     * 청크에서 처음 참조된 카테고리 ID를 한 번의 IN 쿼리로 조회하는 내부 메소드
+     */
+    private void resolveCategories(List<PendingRow> chunk, ImportContext context) {
+        Set<Integer> unseenIds = chunk.stream()
+                .flatMap(pending -> pending.request().categoryIds().stream())
+                .filter(id -> !context.categoryNames.containsKey(id) && !context.missingCategoryIds.contains(id))
+                .collect(Collectors.toSet());
+        if (unseenIds.isEmpty()) {
+            return;
+        }
+
+        for (Category category : categoryRepository.findAllById(unseenIds)) {
+            context.categoryNames.put(category.getId(), category.getName());
+        }
+        unseenIds.stream()
+                .filter(id -> !context.categoryNames.containsKey(id))
+                .forEach(context.missingCategoryIds::add);
+    }
+
+    /**
+     * 도서와 도서-카테고리 행을 JDBC 배치로 삽입하고, 삽입된 도서 ID를 행 순서대로 반환하는 내부 메소드
+     * IDENTITY 생성 전략은 Hibernate 배치 삽입을 막으므로 JDBC로 직접 삽입합니다.
+     * SQLite는 쓰기 트랜잭션을 직렬화하므로 한 트랜잭션에서 삽입된 AUTOINCREMENT ID는 연속된 값이 되어,
+     * 마지막 ID만 조회하면 전체 ID를 알 수 있습니다.
+     */
+    private List<Integer> insertRows(List<PendingRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_BOOK_SQL, rows, rows.size(), (ps, pending) -> {
+            ps.setString(1, pending.request().title());
+            ps.setString(2, pending.request().author());
+            ps.setString(3, BookStatus.AVAILABLE.name());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        Integer lastId = jdbcTemplate.queryForObject(LAST_INSERT_ID_SQL, Integer.class);
+        int firstId = lastId - rows.size() + 1;
+
+        List<Integer> bookIds = new ArrayList<>(rows.size());
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int bookId = firstId + i;
+            bookIds.add(bookId);
+            for (Integer categoryId : rows.get(i).request().categoryIds()) {
+                links.add(new Object[]{bookId, categoryId});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOK_CATEGORY_SQL, links);
+
+        return bookIds;
+    }
+
+    /**
+     * 커밋된 도서를 검색 색인에 반영하는 내부 메소드
+     */
+    private void indexRows(List<PendingRow> rows, List<Integer> bookIds, ImportContext context) {
+        for (int i = 0; i < rows.size(); i++) {
+            BookRequestDto request = rows.get(i).request();
+            List<String> categoryNames = request.categoryIds().stream()
+                    .map(context.categoryNames::get)
+                    .toList();
+            bookSearchIndex.index(bookIds.get(i), request.title(), request.author(), categoryNames);
+        }
+    }
+
+    /**
+     * 요청 DTO의 유효성을 검증하고, 실패 시 검증 메시지를 반환하는 내부 메소드
+     */
+    private String validate(BookRequestDto request) {
+        if (request == null) {
+            return messageUtils.getMessageWithDefault("book.import.invalid.record", "Invalid book record: null", "null");
+        }
+        Set<ConstraintViolation<BookRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private String invalidRecordMessage(JsonMappingException e) {
+        return messageUtils.getMessageWithDefault("book.import.invalid.record",
+                () -> "Invalid book record: " + e.getOriginalMessage(), e.getOriginalMessage());
+    }
+
+    private static double rowsPerSecond(long rows, long elapsedNanos) {
+        if (rows == 0 || elapsedNanos <= 0) {
+            return 0;
+        }
+        return Math.round(rows * 1_000_000_000.0 / elapsedNanos * 10) / 10.0;
+    }
+
+    /**
+     * 입력 내 행 번호와 요청 DTO
+     */
+    private record PendingRow(long row, BookRequestDto request) {}
+
+    /**
+     * 일괄 등록 한 건의 진행 상태
+     */
+    private class ImportContext {
+
+        private final long startedAt = System.nanoTime();
+        private final Map<Integer, String> categoryNames = new HashMap<>();
+        private final Set<Integer> missingCategoryIds = new HashSet<>();
+        private final List<ChunkResult> chunks = new ArrayList<>();
+        private final List<FailedRow> failures = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private void fail(long row, String reason) {
+            failedRows++;
+            if (failures.size() < importProperties.maxReportedFailures()) {
+                failures.add(new FailedRow(row, reason));
+            }
+        }
+
+        private BookBulkImportResponseDto toResponse() {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            return new BookBulkImportResponseDto(
+                    totalRows,
+                    importedRows,
+                    failedRows,
+                    elapsedNanos / 1_000_000,
+                    rowsPerSecond(importedRows, elapsedNanos),
+                    chunks,
+                    failures);
+        }
+    }
+}
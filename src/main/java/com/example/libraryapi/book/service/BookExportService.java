@@ -0,0 +1,81 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.book.dto.BookExportRow;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.repository.BookRepository;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.common.export.ExportFormat;
+import com.example.libraryapi.common.export.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 도서 목록 내보내기를 처리하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    private static final String[] CSV_HEADER = {"id", "title", "author", "status", "categories"};
+
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 도서를 ID 순으로 스트리밍하여 내보냅니다.
+     * (도서, 카테고리) 조인 결과를 DTO 프로젝션으로 순방향 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않고,
+     * 도서 수와 관계없이 일정한 메모리로 동작합니다.
+     *
+     * @return 내보낸 도서 수
+     */
+    @Transactional(readOnly = true)
+    public long exportBooks(OutputStream outputStream, ExportFormat format) throws IOException {
+        ExportWriter writer = new ExportWriter(outputStream, format, objectMapper);
+        writer.writeHeader(CSV_HEADER);
+
+        try (Stream<BookExportRow> rows = bookRepository.streamAllForExport()) {
+            Iterator<BookExportRow> iterator = rows.iterator();
+            BookExportRow current = null;
+            Set<CategoryResponseDto> categories = new LinkedHashSet<>();
+
+            // 같은 도서의 행은 연속해서 나오므로 도서 ID가 바뀔 때마다 한 건씩 기록
+            while (iterator.hasNext()) {
+                BookExportRow row = iterator.next();
+                if (current != null && !current.id().equals(row.id())) {
+                    writeBook(writer, current, categories);
+                    categories = new LinkedHashSet<>();
+                }
+                current = row;
+                if (row.categoryId() != null) {
+                    categories.add(new CategoryResponseDto(row.categoryId(), row.categoryName()));
+                }
+            }
+
+            if (current != null) {
+                writeBook(writer, current, categories);
+            }
+        }
+
+        writer.finish();
+        return writer.getWritten();
+    }
+
+    private void writeBook(ExportWriter writer, BookExportRow row, Set<CategoryResponseDto> categories) throws IOException {
+        BookResponseDto book = new BookResponseDto(row.id(), row.title(), row.author(), row.status(), categories);
+        String categoryNames = categories.stream()
+                .map(CategoryResponseDto::name)
+                .collect(Collectors.joining("|"));
+
+        writer.write(book, book.id(), book.title(), book.author(), book.status(), categoryNames);
+    }
+}
@@ -3,21 +3,33 @@ package com.example.libraryapi.book.service;
 import com.example.libraryapi.book.dto.BookCategoryUpdateDto;
 import com.example.libraryapi.book.dto.BookRequestDto;
 import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookSearchResult;
 import com.example.libraryapi.book.dto.BookStatusUpdateDto;
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.repository.BookRepository;
+import com.example.libraryapi.book.search.BookSearchIndex;
 import com.example.libraryapi.category.entity.Category;
 import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.category.service.CategoryRegistry;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.util.CursorUtils;
+import com.example.libraryapi.common.web.ResourceVersion;
+import com.example.libraryapi.exception.InvalidRequestException;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.exception.ResourceInUseException;
 import com.example.libraryapi.exception.ResourceNotFoundException;
 import com.example.libraryapi.rental.repository.RentalRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +39,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookService {
 
+    /**
+     * 도서 검색 결과 최대 건수 (넘으면 BookSearchResult.truncated로 표시)
+     */
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
     private final RentalRepository rentalRepository;
     private final MessageUtils messageUtils;
+    private final BookSearchIndex bookSearchIndex;
+    private final CategoryRegistry categoryRegistry;
 
     /**
      * 새로운 도서를 생성합니다.
@@ -51,17 +70,30 @@ public class BookService {
         
         // 카테고리 연결
         savedBook.updateCategories(categories);
+
+        // 커밋 후 검색 색인 반영
+        bookSearchIndex.indexAfterCommit(savedBook);
         
         return BookResponseDto.from(savedBook);
     }
 
     /**
-     * 모든 도서 목록을 조회합니다.
+     * 도서 목록을 ID 순으로 커서 기반 페이지 조회합니다.
+     * 페이지에 해당하는 ID를 먼저 조회한 뒤, 해당 도서와 카테고리를 프로젝션으로 불러옵니다.
      */
     @Transactional(readOnly = true)
-    public List<BookResponseDto> getAllBooks() {
-        List<Book> books = bookRepository.findAll();
-        return BookResponseDto.listFrom(books);
+    public CursorPageResponseDto<BookResponseDto> getAllBooks(String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        int after = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Integer> ids = bookRepository.findIdsAfter(after, PageRequest.ofSize(pageSize + 1));
+        boolean hasNext = ids.size() > pageSize;
+        List<Integer> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        String nextCursor = hasNext ? CursorUtils.encode(pageIds.get(pageIds.size() - 1)) : null;
+
+        return CursorPageResponseDto.of(findResponsesByIds(pageIds), nextCursor);
     }
 
     /**
@@ -73,19 +105,66 @@ public class BookService {
         return BookResponseDto.from(book);
     }
 
+    /**
+     * 도서의 조건부 GET 처리를 위한 버전(ETag, Last-Modified)을 반환합니다.
+     * 도서 엔티티는 2차 캐시에서 읽으므로 대부분 쿼리 없이 계산됩니다.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getBookVersion(Integer id) {
+        Book book = findBookById(id);
+        return ResourceVersion.of("book", book.getId(), book.getUpdatedAt());
+    }
+
+    /**
+     * 도서 목록/검색의 조건부 GET 처리를 위한 버전을 반환합니다. (집계 쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getBooksVersion() {
+        return ResourceVersion.of("books", bookRepository.findVersionStamp());
+    }
+
     /**
      * 도서를 검색합니다.
+     * 제목/저자 조건이 있으면 검색 색인에서 관련도 순 ID를 구한 뒤 프로젝션으로 도서를 불러오고,
+     * 카테고리 조건만 있거나 색인이 아직 준비되지 않았으면 DB에서 직접 조회합니다.
+     * 결과는 최대 MAX_SEARCH_RESULTS건이며, 한 건 더 조회해 잘린 결과인지 함께 반환합니다.
      */
     @Transactional(readOnly = true)
-    public List<BookResponseDto> searchBooks(String author, String title, String category) {
+    public BookSearchResult searchBooks(String author, String title, String category) {
         // 빈 문자열인 경우 null로 변환하여 처리
         String authorParam = (author != null && !author.isBlank()) ? author : null;
         String titleParam = (title != null && !title.isBlank()) ? title : null;
         String categoryParam = (category != null && !category.isBlank()) ? category : null;
         
-        // 하나의 쿼리로 모든 필터 적용
-        List<Book> results = bookRepository.findByFilters(categoryParam, titleParam, authorParam);
-        return BookResponseDto.listFrom(results);
+        if ((titleParam != null || authorParam != null) && bookSearchIndex.isReady()) {
+            List<Integer> rankedIds = bookSearchIndex.search(titleParam, authorParam, categoryParam, MAX_SEARCH_RESULTS + 1);
+            List<Integer> pageIds = limitSearchResults(rankedIds);
+            return new BookSearchResult(orderByIds(findResponsesByIds(pageIds), pageIds), pageIds.size() < rankedIds.size());
+        }
+
+        // 카테고리 이름은 레지스트리에서 ID로 변환 (존재하지 않는 카테고리면 조회 없이 빈 결과)
+        Integer categoryId = null;
+        if (categoryParam != null) {
+            categoryId = categoryRegistry.findIdByName(categoryParam).orElse(null);
+            if (categoryId == null) {
+                return new BookSearchResult(List.of(), false);
+            }
+        }
+
+        // 조건에 맞는 ID 조회 후 도서와 카테고리를 프로젝션으로 로딩 (도서 수와 무관하게 쿼리 3회)
+        // 카테고리 조건만 있으면 book_categories 인덱스만으로 ID를 구함
+        List<Integer> ids = (titleParam == null && authorParam == null)
+                ? bookRepository.findIdsByCategoryId(categoryId, PageRequest.ofSize(MAX_SEARCH_RESULTS + 1))
+                : bookRepository.findIdsByFilters(categoryId, titleParam, authorParam, PageRequest.ofSize(MAX_SEARCH_RESULTS + 1));
+        List<Integer> pageIds = limitSearchResults(ids);
+        return new BookSearchResult(findResponsesByIds(pageIds), pageIds.size() < ids.size());
+    }
+
+    /**
+     * 최대 건수보다 하나 더 조회한 ID 목록에서 최대 건수만 남깁니다.
+     */
+    private static List<Integer> limitSearchResults(List<Integer> ids) {
+        return ids.size() > MAX_SEARCH_RESULTS ? ids.subList(0, MAX_SEARCH_RESULTS) : ids;
     }
 
     /**
@@ -98,7 +177,7 @@ public class BookService {
         // 대여 중인 책인지 확인
         rentalRepository.findActiveRentalByBookId(id).ifPresent(rental -> {
             throw new ResourceInUseException(
-                messageUtils.getMessageWithDefault("book.in.use", "Cannot change status of rented book. Book ID: " + id, id));
+                messageUtils.getMessageWithDefault("book.in.use", () -> "Cannot change status of rented book. Book ID: " + id, id));
         });
         
         book.setStatus(request.status());
@@ -117,11 +196,11 @@ public class BookService {
         // 카테고리 조회
         Set<Category> categories = findCategoriesByIds(request.categoryIds());
         
-        // 카테고리 업데이트
+        // 카테고리 업데이트 (영속 상태이므로 커밋 시 변경 감지로 반영)
         book.updateCategories(categories);
-        Book savedBook = bookRepository.save(book);
+        bookSearchIndex.indexAfterCommit(book);
         
-        return BookResponseDto.from(savedBook);
+        return BookResponseDto.from(book);
     }
     
     /**
@@ -130,17 +209,79 @@ public class BookService {
     private Book findBookById(Integer id) {
         return bookRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                    messageUtils.getMessageWithDefault("book.not.found", "Book not found. ID: " + id, id)));
+                    messageUtils.getMessageWithDefault("book.not.found", () -> "Book not found. ID: " + id, id)));
     }
     
+    /**
+     * ID 목록에 해당하는 도서를 ID 순으로 응답 DTO로 조회하는 내부 메소드
+     * 도서 프로젝션과 (도서 ID, 카테고리) 쌍을 각각 한 번씩 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     */
+    private List<BookResponseDto> findResponsesByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return BookResponseDto.listFrom(
+                bookRepository.findSummariesByIdIn(ids),
+                bookRepository.findCategoryRowsByBookIdIn(ids));
+    }
+
+    /**
+     * 조회된 도서를 주어진 ID 순서(검색 관련도 순)로 정렬하는 내부 메소드
+     */
+    private List<BookResponseDto> orderByIds(List<BookResponseDto> books, List<Integer> ids) {
+        Map<Integer, BookResponseDto> booksById = books.stream()
+                .collect(Collectors.toMap(BookResponseDto::id, Function.identity()));
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 페이지 커서를 디코딩하는 내부 메소드
+     */
+    private int decodeCursor(String cursor) {
+        try {
+            return CursorUtils.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(
+                messageUtils.getMessageWithDefault("pagination.invalid.cursor", () -> "Invalid page cursor: " + cursor, cursor));
+        }
+    }
+
     /**
      * ID 목록으로 카테고리를 조회하는 내부 메소드
+     * 카테고리 레지스트리로 쿼리 없이 확인하고, 레지스트리에 없는 ID가 있을 때만 한 번의 IN 쿼리로 다시 확인합니다.
+     * 존재하지 않는 ID는 한 번의 예외에 모두 담아 알립니다.
+     * 반환되는 카테고리는 ID와 이름만 가진 비영속 객체로, 도서의 카테고리 연결(외래 키)에만 사용합니다.
      */
     private Set<Category> findCategoriesByIds(Set<Integer> categoryIds) {
+        Map<Integer, String> names = categoryRegistry.getNamesById();
+
+        if (!names.keySet().containsAll(categoryIds)) {
+            // 레지스트리 이후 생성된 카테고리일 수 있으므로 DB에서 한 번에 확인
+            names = categoryRepository.findAllById(categoryIds).stream()
+                    .collect(Collectors.toMap(Category::getId, Category::getName));
+
+            Set<Integer> missingIds = new HashSet<>(categoryIds);
+            missingIds.removeAll(names.keySet());
+            if (!missingIds.isEmpty()) {
+                String ids = missingIds.stream()
+                        .sorted()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(", "));
+                throw new ResourceNotFoundException(
+                    messageUtils.getMessageWithDefault("category.not.found", () -> "Category not found. ID: " + ids, ids));
+            }
+            categoryRegistry.rebuild();
+        }
+
+        Map<Integer, String> resolvedNames = names;
         return categoryIds.stream()
-                .map(id -> categoryRepository.findById(id)
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                            messageUtils.getMessageWithDefault("category.not.found", "Category not found. ID: " + id, id))))
+                .map(id -> Category.builder()
+                        .id(id)
+                        .name(resolvedNames.get(id))
+                        .build())
                 .collect(Collectors.toSet());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package com.example.libraryapi.category.service;
+
+import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 ID ↔ 이름 매핑을 메모리에 보관하는 레지스트리
+ * 카테고리 테이블은 작고 거의 변하지 않으므로 전체를 불변 스냅샷으로 들고 있고,
+ * 조회는 락 없이 현재 스냅샷을 읽습니다. 카테고리가 생성되면 트랜잭션 커밋 후
+ * 기존 스냅샷을 복사해 새 항목을 추가한 스냅샷으로 원자적으로 교체합니다(copy-on-write).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+	private final CategoryRepository categoryRepository;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong rebuildCount = new AtomicLong();
+
+	/**
+	 * DB의 전체 카테고리로 스냅샷을 다시 만듭니다.
+	 * 스냅샷 교체는 락을 잡고 수행하므로, 재구성 중에 커밋된 카테고리 등록이 누락되지 않습니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		long start = System.nanoTime();
+		Map<Integer, String> namesById = new TreeMap<>();
+		for (Category category : categoryRepository.findAll()) {
+			namesById.put(category.getId(), category.getName());
+		}
+		snapshot.set(Snapshot.of(namesById));
+		rebuildCount.incrementAndGet();
+		log.info("Category registry rebuilt: {} categories in {} ms",
+				namesById.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * ID로 카테고리를 조회합니다. 반환되는 카테고리는 ID와 이름만 가진 비영속 객체입니다.
+	 */
+	public Optional<Category> findById(Integer id) {
+		return record(Optional.ofNullable(current().namesById().get(id))
+				.map(name -> copyOf(id, name)));
+	}
+
+	/**
+	 * 이름으로 카테고리 ID를 조회합니다.
+	 */
+	public Optional<Integer> findIdByName(String name) {
+		return record(Optional.ofNullable(current().idsByName().get(name)));
+	}
+
+	/**
+	 * 같은 이름의 카테고리가 존재하는지 확인합니다.
+	 */
+	public boolean existsByName(String name) {
+		return findIdByName(name).isPresent();
+	}
+
+	/**
+	 * 전체 카테고리를 ID 순으로 반환합니다. 반환되는 카테고리는 ID와 이름만 가진 비영속 객체입니다.
+	 */
+	public List<Category> findAll() {
+		hitCount.incrementAndGet();
+		return current().namesById().entrySet().stream()
+				.map(entry -> copyOf(entry.getKey(), entry.getValue()))
+				.toList();
+	}
+
+	/**
+	 * 전체 카테고리의 ID → 이름 매핑(불변)을 반환합니다.
+	 */
+	public Map<Integer, String> getNamesById() {
+		hitCount.incrementAndGet();
+		return current().namesById();
+	}
+
+	/**
+	 * 카테고리를 스냅샷에 추가합니다.
+	 */
+	public synchronized void register(Integer id, String name) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			// 아직 한 번도 로딩되지 않았으면 다음 조회 시 DB에서 전체를 읽음
+			return;
+		}
+
+		Map<Integer, String> namesById = new TreeMap<>(current.namesById());
+		namesById.put(id, name);
+		snapshot.set(Snapshot.of(namesById));
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 후 카테고리를 스냅샷에 추가합니다. 트랜잭션이 없으면 즉시 추가합니다.
+	 */
+	public void registerAfterCommit(Integer id, String name) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			register(id, name);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				register(id, name);
+			}
+		});
+	}
+
+	/**
+	 * 스냅샷에서 찾은 조회 수를 반환합니다.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * 스냅샷에 없어 찾지 못한 조회 수를 반환합니다.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * DB에서 스냅샷을 다시 만든 횟수를 반환합니다.
+	 */
+	public long getRebuildCount() {
+		return rebuildCount.get();
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot.get();
+		if (current != null) {
+			return current;
+		}
+
+		synchronized (this) {
+			if (snapshot.get() == null) {
+				rebuild();
+			}
+			return snapshot.get();
+		}
+	}
+
+	private <T> Optional<T> record(Optional<T> result) {
+		(result.isPresent() ? hitCount : missCount).incrementAndGet();
+		return result;
+	}
+
+	private static Category copyOf(Integer id, String name) {
+		return Category.builder()
+				.id(id)
+				.name(name)
+				.build();
+	}
+
+	/**
+	 * 카테고리 ID → 이름, 이름 → ID 매핑의 불변 스냅샷
+	 */
+	private record Snapshot(Map<Integer, String> namesById, Map<String, Integer> idsByName) {
+
+		static Snapshot of(Map<Integer, String> namesById) {
+			Map<String, Integer> idsByName = new HashMap<>();
+			namesById.forEach((id, name) -> idsByName.put(name, id));
+			return new Snapshot(Collections.unmodifiableMap(namesById), Map.copyOf(idsByName));
+		}
+	}
+}
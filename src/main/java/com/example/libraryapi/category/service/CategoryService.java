@@ -10,6 +10,7 @@ import com.example.libraryapi.exception.DuplicateResourceException;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,16 +26,16 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final BookRepository bookRepository;
     private final MessageUtils messageUtils;
+    private final CategoryRegistry categoryRegistry;
 
     /**
      * 새로운 카테고리를 생성합니다.
      */
     @Transactional
     public CategoryResponseDto createCategory(CategoryRequestDto request) {
-        // 중복 검사
-        if (categoryRepository.existsByName(request.name())) {
-            throw new DuplicateResourceException(
-                messageUtils.getMessageWithDefault("category.already.exists", "Category name already exists: " + request.name(), request.name()));
+        // 중복 검사 (레지스트리 조회, 동시 생성은 DB 유니크 제약으로 방지)
+        if (categoryRegistry.existsByName(request.name())) {
+            throw duplicateCategory(request.name());
         }
         
         // 카테고리 생성
@@ -42,23 +43,29 @@ public class CategoryService {
                 .name(request.name())
                 .build();
         
-        Category savedCategory = categoryRepository.save(category);
+        Category savedCategory;
+        try {
+            savedCategory = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateCategory(request.name());
+        }
+
+        // 커밋 후 카테고리 레지스트리에 반영
+        categoryRegistry.registerAfterCommit(savedCategory.getId(), savedCategory.getName());
         return CategoryResponseDto.from(savedCategory);
     }
 
     /**
-     * 모든 카테고리 목록을 조회합니다.
+     * 모든 카테고리 목록을 조회합니다. (카테고리 레지스트리에서 조회하므로 DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponseDto> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
+        List<Category> categories = categoryRegistry.findAll();
         return CategoryResponseDto.listFrom(categories);
     }
 
     /**
-     * ID로 특정 카테고리를 조회합니다.
+     * ID로 특정 카테고리를 조회합니다. (카테고리 레지스트리에서 조회하므로 DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public CategoryResponseDto getCategoryById(Integer id) {
         Category category = findCategoryById(id);
         return CategoryResponseDto.from(category);
@@ -80,8 +87,16 @@ public class CategoryService {
      * ID로 카테고리를 조회하는 내부 메소드
      */
     private Category findCategoryById(Integer id) {
-        return categoryRepository.findById(id)
+        return categoryRegistry.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                    messageUtils.getMessageWithDefault("category.not.found", "Category not found. ID: " + id, id)));
+                    messageUtils.getMessageWithDefault("category.not.found", () -> "Category not found. ID: " + id, id)));
+    }
+
+    /**
+     * 카테고리 이름 중복 예외를 생성하는 내부 메소드
+     */
+    private DuplicateResourceException duplicateCategory(String name) {
+        return new DuplicateResourceException(
+            messageUtils.getMessageWithDefault("category.already.exists", () -> "Category name already exists: " + name, name));
     }
 } 
\ No newline at end of file
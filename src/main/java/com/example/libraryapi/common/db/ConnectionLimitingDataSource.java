@@ -0,0 +1,128 @@
+package com.example.libraryapi.common.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 풀 크기만큼의 세마포어 허가를 얻은 스레드만 커넥션을 빌리도록 제한하는 DataSource
+ * 가상 스레드로 요청을 처리하면 동시에 DB를 쓰려는 스레드 수에 상한이 없어지는데,
+ * sqlite-jdbc는 네이티브 호출 동안 synchronized 블록 안에 있어 가상 스레드가 캐리어 스레드를 붙잡습니다.
+ * 풀 크기만큼만 들여보내 나머지는 세마포어에서 (캐리어를 붙잡지 않고) 기다리게 하고, 대기 시간을 집계합니다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+	private final int permits;
+	private final Duration timeout;
+	private final Semaphore semaphore;
+
+	private final AtomicInteger waitingCount = new AtomicInteger();
+	private final AtomicLong acquiredCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
+	/**
+	 * @param target  대상 커넥션 풀
+	 * @param permits 동시에 커넥션을 빌릴 수 있는 스레드 수 (보통 풀 크기)
+	 * @param timeout 허가를 기다리는 최대 시간
+	 */
+	public ConnectionLimitingDataSource(DataSource target, int permits, Duration timeout) {
+		super(target);
+		this.permits = permits;
+		this.timeout = timeout;
+		this.semaphore = new Semaphore(permits, true);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		long start = System.nanoTime();
+		waitingCount.incrementAndGet();
+		try {
+			if (!semaphore.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				timeoutCount.incrementAndGet();
+				throw new SQLTransientConnectionException(
+						"Timed out after " + timeout.toMillis() + " ms waiting for one of " + permits + " connection permits");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+		} finally {
+			waitingCount.decrementAndGet();
+			long waited = System.nanoTime() - start;
+			totalWaitNanos.addAndGet(waited);
+			maxWaitNanos.accumulateAndGet(waited, Math::max);
+		}
+
+		try {
+			Connection connection = obtainTargetDataSource().getConnection();
+			acquiredCount.incrementAndGet();
+			return PermitConnections.releaseOnClose(connection, semaphore);
+		} catch (SQLException | RuntimeException e) {
+			semaphore.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return getConnection();
+	}
+
+	/**
+	 * 동시에 커넥션을 빌릴 수 있는 스레드 수를 반환합니다.
+	 */
+	public int getPermits() {
+		return permits;
+	}
+
+	/**
+	 * 현재 커넥션을 빌리고 있는 스레드 수를 반환합니다.
+	 */
+	public int getActiveCount() {
+		return permits - semaphore.availablePermits();
+	}
+
+	/**
+	 * 현재 허가를 기다리는 스레드 수를 반환합니다.
+	 */
+	public int getWaitingCount() {
+		return waitingCount.get();
+	}
+
+	/**
+	 * 커넥션을 빌린 횟수를 반환합니다.
+	 */
+	public long getAcquiredCount() {
+		return acquiredCount.get();
+	}
+
+	/**
+	 * 허가를 기다리다 시간 초과로 실패한 횟수를 반환합니다.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * 허가를 기다린 시간의 합(ms)을 반환합니다.
+	 */
+	public long getTotalWaitMillis() {
+		return totalWaitNanos.get() / 1_000_000;
+	}
+
+	/**
+	 * 허가를 기다린 가장 긴 시간(ms)을 반환합니다.
+	 */
+	public long getMaxWaitMillis() {
+		return maxWaitNanos.get() / 1_000_000;
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.libraryapi.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate가 실제로 실행하는 SQL을 모으는 StatementInspector
+ * 같은 쿼리가 IN 목록 길이만 다른 경우는 하나로 보고, 처음 보는 SQL만 실행 계획 점검 대기열에 넣습니다.
+ * SQL은 바꾸지 않고 그대로 돌려주며, 모은 SQL 수가 상한(maxStatements)에 이르면 경고를 한 번 남기고 더 이상 모으지 않습니다.
+ */
+@Slf4j
+public class ExecutedStatementCollector implements StatementInspector {
+
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+	private final int maxStatements;
+	private final Set<String> seenStatements = ConcurrentHashMap.newKeySet();
+	private final Set<String> normalizedStatements = ConcurrentHashMap.newKeySet();
+	private final Queue<String> collectedStatements = new ConcurrentLinkedQueue<>();
+	private final Queue<String> pendingStatements = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean limitReported = new AtomicBoolean();
+
+	public ExecutedStatementCollector(int maxStatements) {
+		this.maxStatements = maxStatements;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		if (seenStatements.size() >= maxStatements) {
+			if (!seenStatements.contains(sql) && limitReported.compareAndSet(false, true)) {
+				log.warn("Collected {} distinct SQL statements; statements executed from now on are not plan-checked "
+						+ "(raise library.query-plan-check.max-statements to check them)", maxStatements);
+			}
+			return sql;
+		}
+		if (!seenStatements.add(sql)) {
+			return sql;
+		}
+
+		if (normalizedStatements.add(IN_LIST.matcher(sql).replaceAll("(?)"))) {
+			collectedStatements.add(sql);
+			pendingStatements.add(sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * 지금까지 모은 SQL을 모두 반환합니다. (IN 목록 길이만 다른 SQL은 하나만)
+	 */
+	public List<String> getCollected() {
+		return List.copyOf(collectedStatements);
+	}
+
+	/**
+	 * 아직 점검하지 않은 SQL을 꺼냅니다.
+	 *
+	 * @return 마지막 호출 이후 처음 실행된 SQL 목록
+	 */
+	public List<String> drainPending() {
+		List<String> statements = new ArrayList<>();
+		String sql;
+		while ((sql = pendingStatements.poll()) != null) {
+			statements.add(sql);
+		}
+		return statements;
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.libraryapi.common.db;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 세마포어 허가를 얻어 빌려준 커넥션을 감싸는 도우미
+ */
+final class PermitConnections {
+
+	private PermitConnections() {
+	}
+
+	/**
+	 * 커넥션을 닫을 때(풀에 반환할 때) 허가를 한 번만 돌려주도록 감쌉니다.
+	 */
+	static Connection releaseOnClose(Connection connection, Semaphore permits) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+				(proxy, method, args) -> {
+					if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+						try {
+							connection.close();
+						} finally {
+							permits.release();
+						}
+						return null;
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
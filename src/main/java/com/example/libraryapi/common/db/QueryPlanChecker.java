@@ -0,0 +1,160 @@
+package com.example.libraryapi.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate가 실제로 실행한 SQL의 SQLite 실행 계획을 점검하는 컴포넌트
+ * ExecutedStatementCollector가 모은 SQL 중 처음 실행된 것에 시작 직후 한 번, 이후 주기적으로 EXPLAIN QUERY PLAN을 실행해,
+ * 인덱스 없이 테이블을 SCAN하는 쿼리가 있으면 경고합니다.
+ * 아직 실행되지 않은 저장소 쿼리는 점검할 수 없으므로, QueryPlanCheckerTest가 모든 저장소 쿼리 메서드를 실행한 뒤
+ * checkAll()로 점검해 인덱스를 타지 않는 쿼리가 추가되면 빌드가 실패하도록 합니다.
+ * WHERE 조건이 없는 SQL(목록 버전 집계, 내보내기 스트림 등)과 FULL_SCAN_EXPECTED 주석이 붙은 쿼리(부분 문자열 검색)는
+ * 전체 행을 읽는 것이 의도이므로 점검하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "library.query-plan-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanChecker {
+
+    /**
+     * 전체 스캔이 의도된 쿼리에 붙이는 SQL 주석 (HibernateHints.HINT_COMMENT)
+     */
+    public static final String FULL_SCAN_EXPECTED = "full-scan-expected";
+
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*(.*?)\\*/\\s*", Pattern.DOTALL);
+    private static final Pattern WHERE = Pattern.compile("\\bwhere\\b", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutedStatementCollector executedStatementCollector;
+
+    public QueryPlanChecker(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ExecutedStatementCollector executedStatementCollector) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executedStatementCollector = executedStatementCollector;
+    }
+
+    /**
+     * 시작 직후 한 번, 이후 주기적으로 새로 실행된 SQL의 실행 계획을 점검합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${library.query-plan-check.interval:1m}",
+            fixedDelayString = "${library.query-plan-check.interval:1m}")
+    public void checkNewStatements() {
+        check();
+    }
+
+    /**
+     * 마지막 점검 이후 처음 실행된 SQL의 실행 계획을 점검하고, 전체 스캔이 포함된 SQL을 경고로 남깁니다.
+     * 읽기 전용 트랜잭션으로 실행해 단일 쓰기 커넥션 대신 읽기 커넥션을 사용합니다.
+     *
+     * @return 전체 스캔이 포함된 SQL의 실행 계획 단계 목록 (없으면 빈 목록)
+     */
+    public List<String> check() {
+        return check(executedStatementCollector.drainPending());
+    }
+
+    /**
+     * 지금까지 실행된 모든 SQL의 실행 계획을 점검합니다. (이미 점검한 SQL 포함)
+     *
+     * @return 전체 스캔이 포함된 SQL의 실행 계획 단계 목록 (없으면 빈 목록)
+     */
+    public List<String> checkAll() {
+        executedStatementCollector.drainPending();
+        return check(executedStatementCollector.getCollected());
+    }
+
+    private List<String> check(List<String> statements) {
+        if (statements.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> scans = new ArrayList<>();
+        int checked = 0;
+        for (String statement : statements) {
+            ExecutedStatement executed = ExecutedStatement.parse(statement);
+            if (!executed.needsPlanCheck()) {
+                continue;
+            }
+
+            checked++;
+            try {
+                List<String> details = readOnlyTransaction.execute(status -> explain(executed.sql()));
+                details.stream()
+                        .filter(QueryPlanChecker::isFullScan)
+                        .forEach(detail -> {
+                            log.warn("Query plan for {} falls back to a full scan: {}", executed.label(), detail);
+                            scans.add(executed.label() + ": " + detail);
+                        });
+            } catch (DataAccessException e) {
+                log.warn("Could not explain query plan for {}: {}", executed.label(), e.getMessage());
+            }
+        }
+
+        log.info("Query plan check finished: {} statements, {} checked, {} full scans",
+                statements.size(), checked, scans.size());
+        return scans;
+    }
+
+    /**
+     * 바인딩 값은 실행 계획에 영향을 주지 않으므로 모든 파라미터를 NULL로 두고 EXPLAIN합니다.
+     */
+    private List<String> explain(String sql) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql);
+            int parameterCount = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setNull(i, Types.NULL);
+            }
+            return ps;
+        }, (rs, rowNum) -> rs.getString("detail"));
+    }
+
+    private static boolean isFullScan(String detail) {
+        return detail.startsWith("SCAN ") && !detail.startsWith("SCAN CONSTANT ROW");
+    }
+
+    /**
+     * 실행된 SQL (Hibernate가 붙인 주석을 떼어 낸 SQL과, 로그에 쓸 주석 내용)
+     */
+    record ExecutedStatement(String sql, String comment) {
+
+        static ExecutedStatement parse(String statement) {
+            Matcher matcher = LEADING_COMMENT.matcher(statement);
+            if (matcher.find()) {
+                return new ExecutedStatement(statement.substring(matcher.end()), matcher.group(1).trim());
+            }
+            return new ExecutedStatement(statement.trim(), null);
+        }
+
+        boolean needsPlanCheck() {
+            if (sql.regionMatches(true, 0, "insert", 0, "insert".length())) {
+                return false;
+            }
+            return WHERE.matcher(sql).find() && !FULL_SCAN_EXPECTED.equals(comment);
+        }
+
+        String label() {
+            return comment != null ? comment : sql;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.libraryapi.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 애플리케이션 테이블이 이미 있으면 스키마/데이터 스크립트 실행을 건너뛰는 초기화기
+ * schema.sql은 테이블을 삭제하고 다시 만들기 때문에, 기존 DB로 재시작할 때마다 스크립트를 실행하면
+ * 데이터가 사라지고 시작 시간도 늘어납니다. skipIfInitialized가 false이면 기본 초기화기와 똑같이 동작합니다.
+ * 인덱스 스크립트(CREATE INDEX IF NOT EXISTS)는 건너뛰기 여부와 관계없이 항상 실행하므로,
+ * 이전 스키마로 만든 DB도 이후에 추가된 인덱스(ux_rentals_active_book 등)를 갖게 됩니다.
+ */
+@Slf4j
+public class SkipIfInitializedDatabaseInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+	static final List<String> TABLES = List.of("books", "categories", "book_categories", "rentals");
+
+	private static final String COUNT_TABLES_SQL =
+			"SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name IN ('"
+					+ String.join("', '", TABLES) + "')";
+
+	private final DataSource dataSource;
+	private final SqlInitializationProperties properties;
+	private final boolean skipIfInitialized;
+	private final List<String> indexLocations;
+	private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+	public SkipIfInitializedDatabaseInitializer(DataSource dataSource, SqlInitializationProperties properties,
+			boolean skipIfInitialized, List<String> indexLocations) {
+		super(dataSource, properties);
+		this.dataSource = dataSource;
+		this.properties = properties;
+		this.skipIfInitialized = skipIfInitialized;
+		this.indexLocations = indexLocations;
+	}
+
+	@Override
+	public boolean initializeDatabase() {
+		boolean initialized;
+		if (skipIfInitialized && isInitialized()) {
+			log.info("Tables {} already exist; skipping schema and data scripts", TABLES);
+			initialized = false;
+		} else {
+			initialized = super.initializeDatabase();
+		}
+
+		applyIndexScripts();
+		return initialized;
+	}
+
+	private boolean isInitialized() {
+		Integer count = new JdbcTemplate(dataSource).queryForObject(COUNT_TABLES_SQL, Integer.class);
+		return count != null && count == TABLES.size();
+	}
+
+	/**
+	 * 스크립트 초기화가 켜져 있으면(spring.sql.init.mode) 인덱스 스크립트를 실행합니다.
+	 */
+	private void applyIndexScripts() {
+		DatabaseInitializationMode mode = properties.getMode();
+		if (indexLocations.isEmpty() || mode == DatabaseInitializationMode.NEVER
+				|| (mode == DatabaseInitializationMode.EMBEDDED && !isEmbeddedDatabase())) {
+			return;
+		}
+
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+		indexLocations.forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+		if (properties.getEncoding() != null) {
+			populator.setSqlScriptEncoding(properties.getEncoding().name());
+		}
+		DatabasePopulatorUtils.execute(populator, dataSource);
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.libraryapi.common.db;
+
+import com.example.libraryapi.config.SqliteProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQLite용 쓰기/읽기 커넥션 풀을 만드는 팩토리
+ * 쓰기는 커넥션 1개로 직렬화하고, 읽기는 query_only 커넥션 여러 개로 병렬 처리합니다.
+ * WAL 모드에서는 읽기 커넥션이 쓰기 트랜잭션을 기다리지 않으므로 읽기가 쓰기 뒤에 줄 서지 않습니다.
+ */
+public final class SqliteDataSources {
+
+	private SqliteDataSources() {
+	}
+
+	/**
+	 * 쓰기 커넥션 풀을 만듭니다. 커넥션이 하나뿐이므로 쓰기 트랜잭션끼리 SQLITE_BUSY로 충돌하지 않습니다.
+	 * 저널 모드(WAL)는 DB 파일에 기록되므로 쓰기 커넥션에서만 설정합니다.
+	 */
+	public static HikariDataSource writer(String url, SqliteProperties properties) {
+		List<String> pragmas = new ArrayList<>();
+		pragmas.add("PRAGMA journal_mode = " + properties.journalMode());
+		pragmas.addAll(commonPragmas(properties));
+
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("sqlite-writer");
+		config.setDataSource(new PragmaDataSource(url, pragmas));
+		config.setMaximumPoolSize(1);
+		config.setMinimumIdle(1);
+		config.setConnectionTimeout(properties.writeQueueTimeout().toMillis());
+		return new HikariDataSource(config);
+	}
+
+	/**
+	 * 읽기 전용(query_only) 커넥션 풀을 만듭니다.
+	 */
+	public static HikariDataSource reader(String url, SqliteProperties properties) {
+		List<String> pragmas = new ArrayList<>(commonPragmas(properties));
+		pragmas.add("PRAGMA query_only = ON");
+
+		HikariConfig config = new HikariConfig();
+		config.setPoolName("sqlite-reader");
+		config.setDataSource(new PragmaDataSource(url, pragmas));
+		config.setMaximumPoolSize(properties.readPoolSize());
+		config.setMinimumIdle(properties.readPoolSize());
+		return new HikariDataSource(config);
+	}
+
+	/**
+	 * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 읽기 풀로, 나머지는 쓰기 대기열로 보내는 DataSource를 만듭니다.
+	 * 실제 커넥션은 첫 SQL 실행 시점에 얻으므로 트랜잭션의 읽기 전용 여부가 정해진 뒤에 풀이 선택됩니다.
+	 */
+	public static LazyConnectionDataSourceProxy routing(DataSource writeQueue, DataSource reader) {
+		LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(writeQueue);
+		routing.setReadOnlyDataSource(reader);
+		return routing;
+	}
+
+	private static List<String> commonPragmas(SqliteProperties properties) {
+		return List.of(
+				"PRAGMA synchronous = " + properties.synchronous(),
+				"PRAGMA busy_timeout = " + properties.busyTimeout().toMillis(),
+				"PRAGMA cache_size = -" + properties.cacheSizeKib(),
+				"PRAGMA mmap_size = " + properties.mmapSize());
+	}
+
+	/**
+	 * 새 커넥션을 열 때마다 PRAGMA를 적용하는 SQLite DataSource
+	 */
+	private static final class PragmaDataSource extends SQLiteDataSource {
+
+		private final List<String> pragmas;
+
+		private PragmaDataSource(String url, List<String> pragmas) {
+			this.pragmas = pragmas;
+			setUrl(url);
+		}
+
+		@Override
+		public SQLiteConnection getConnection(String username, String password) throws SQLException {
+			SQLiteConnection connection = super.getConnection(username, password);
+			try (Statement statement = connection.createStatement()) {
+				for (String pragma : pragmas) {
+					statement.execute(pragma);
+				}
+			} catch (SQLException e) {
+				connection.close();
+				throw e;
+			}
+			return connection;
+		}
+	}
+}
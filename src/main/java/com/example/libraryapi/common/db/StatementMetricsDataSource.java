@@ -0,0 +1,140 @@
+package com.example.libraryapi.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행한 SQL 문 수를 세고 느린 SQL을 표본 로그로 남기는 DataSource
+ * Hibernate와 JdbcTemplate이 실행하는 모든 문장이 대상이며, 스레드별 실행 수는 요청 단위 집계에 사용합니다.
+ * 실행 시간은 execute 호출 시간(SQLite에서는 첫 행이 준비될 때까지)이며, 결과 행을 읽는 시간은 포함하지 않습니다.
+ * 모든 SQL을 출력하던 show-sql 대신, threshold 이상 걸린 SQL만 sampleRate 비율로 로그에 남깁니다.
+ */
+@Slf4j
+public class StatementMetricsDataSource extends DelegatingDataSource {
+
+	private static final ThreadLocal<int[]> THREAD_STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+	private final long thresholdNanos;
+	private final double sampleRate;
+
+	private final AtomicLong statementCount = new AtomicLong();
+	private final AtomicLong slowStatementCount = new AtomicLong();
+
+	/**
+	 * @param target     대상 DataSource
+	 * @param threshold  느린 SQL 기준 시간
+	 * @param sampleRate 느린 SQL 중 로그로 남길 비율
+	 */
+	public StatementMetricsDataSource(DataSource target, Duration threshold, double sampleRate) {
+		super(target);
+		this.thresholdNanos = threshold.toNanos();
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * 현재 스레드에서 reset 이후 실행한 SQL 문 수를 반환합니다.
+	 */
+	public static int currentThreadStatementCount() {
+		return THREAD_STATEMENTS.get()[0];
+	}
+
+	/**
+	 * 현재 스레드의 SQL 문 수를 0으로 되돌립니다.
+	 */
+	public static void resetCurrentThreadStatementCount() {
+		THREAD_STATEMENTS.get()[0] = 0;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private Connection wrapConnection(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+						return wrapStatement(statement, (String) args[0]);
+					}
+					if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+						return wrapStatement(statement, null);
+					}
+					return result;
+				});
+	}
+
+	/**
+	 * 문장의 execute* 호출 시간을 잽니다. (PreparedStatement는 준비한 SQL, Statement는 execute 인자의 SQL)
+	 */
+	private Statement wrapStatement(Statement statement, String preparedSql) {
+		Class<?> type = statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+		return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+				(proxy, method, args) -> {
+					if (!method.getName().startsWith("execute")) {
+						return invoke(statement, method, args);
+					}
+
+					long start = System.nanoTime();
+					try {
+						return invoke(statement, method, args);
+					} finally {
+						String sql = preparedSql != null ? preparedSql
+								: (args != null && args.length > 0 && args[0] instanceof String s ? s : null);
+						record(sql, System.nanoTime() - start);
+					}
+				});
+	}
+
+	private void record(String sql, long elapsedNanos) {
+		statementCount.incrementAndGet();
+		THREAD_STATEMENTS.get()[0]++;
+		if (elapsedNanos < thresholdNanos) {
+			return;
+		}
+
+		slowStatementCount.incrementAndGet();
+		if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			log.warn("Slow SQL ({} ms): {}", elapsedNanos / 1_000_000, sql);
+		}
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	/**
+	 * 실행한 SQL 문 수를 반환합니다.
+	 */
+	public long getStatementCount() {
+		return statementCount.get();
+	}
+
+	/**
+	 * threshold 이상 걸린 SQL 문 수를 반환합니다.
+	 */
+	public long getSlowStatementCount() {
+		return slowStatementCount.get();
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.libraryapi.common.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 쓰기 커넥션 앞에 크기가 제한된 대기열을 두는 DataSource
+ * 쓰기 커넥션을 사용 중인 요청 1건과 기다리는 요청 capacity건까지만 받고, 대기열이 가득 차면 기다리지 않고 바로 실패합니다.
+ * 쓰기 요청이 몰려도 대기 스레드가 끝없이 쌓이지 않고, 대기 시간은 대상 커넥션 풀의 connectionTimeout으로 제한됩니다.
+ */
+public class WriteQueueDataSource extends DelegatingDataSource {
+
+	private final int capacity;
+	private final Semaphore slots;
+
+	private final AtomicInteger waitingCount = new AtomicInteger();
+	private final AtomicLong acquiredCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+
+	/**
+	 * @param writer   쓰기 커넥션 풀 (커넥션 1개)
+	 * @param capacity 쓰기 커넥션을 기다릴 수 있는 최대 요청 수
+	 */
+	public WriteQueueDataSource(DataSource writer, int capacity) {
+		super(writer);
+		this.capacity = capacity;
+		this.slots = new Semaphore(capacity + 1, true);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!slots.tryAcquire()) {
+			rejectedCount.incrementAndGet();
+			throw new SQLTransientConnectionException("SQLite write queue is full (capacity " + capacity + ")");
+		}
+
+		long start = System.nanoTime();
+		waitingCount.incrementAndGet();
+		try {
+			Connection connection = obtainTargetDataSource().getConnection();
+			acquiredCount.incrementAndGet();
+			return PermitConnections.releaseOnClose(connection, slots);
+		} catch (SQLException | RuntimeException e) {
+			slots.release();
+			throw e;
+		} finally {
+			waitingCount.decrementAndGet();
+			totalWaitNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return getConnection();
+	}
+
+	/**
+	 * 대기열 용량(쓰기 커넥션을 기다릴 수 있는 최대 요청 수)을 반환합니다.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * 현재 쓰기 커넥션을 기다리는 요청 수를 반환합니다.
+	 */
+	public int getWaitingCount() {
+		return waitingCount.get();
+	}
+
+	/**
+	 * 쓰기 커넥션을 얻은 횟수를 반환합니다.
+	 */
+	public long getAcquiredCount() {
+		return acquiredCount.get();
+	}
+
+	/**
+	 * 대기열이 가득 차 거절된 요청 수를 반환합니다.
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * 쓰기 커넥션을 얻기까지 기다린 시간의 합(ms)을 반환합니다.
+	 */
+	public long getTotalWaitMillis() {
+		return totalWaitNanos.get() / 1_000_000;
+	}
+}
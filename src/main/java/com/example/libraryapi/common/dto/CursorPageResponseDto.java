@@ -0,0 +1,21 @@
+package com.example.libraryapi.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답 DTO")
+public record CursorPageResponseDto<T>(
+		@Schema(description = "현재 페이지 항목 목록") List<T> content,
+
+		@Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjA") String nextCursor,
+
+		@Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {
+
+	/**
+	 * 항목 목록과 다음 커서로 페이지 응답을 생성합니다.
+	 */
+	public static <T> CursorPageResponseDto<T> of(List<T> content, String nextCursor) {
+		return new CursorPageResponseDto<>(content, nextCursor, nextCursor != null);
+	}
+}
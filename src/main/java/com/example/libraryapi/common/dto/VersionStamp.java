@@ -0,0 +1,12 @@
+package com.example.libraryapi.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 전체의 변경 여부를 판단하기 위한 집계 프로젝션 (최종 수정일시, 행 수)
+ * 행이 추가되거나 수정되면 둘 중 하나가 반드시 바뀝니다.
+ */
+public record VersionStamp(
+		LocalDateTime lastModified,
+		Long count) {
+}
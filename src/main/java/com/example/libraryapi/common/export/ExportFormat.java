@@ -0,0 +1,44 @@
+package com.example.libraryapi.common.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 데이터 내보내기 형식
+ */
+public enum ExportFormat {
+
+	NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+	CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+	private final MediaType mediaType;
+	private final String fileExtension;
+
+	ExportFormat(MediaType mediaType, String fileExtension) {
+		this.mediaType = mediaType;
+		this.fileExtension = fileExtension;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * 대소문자 구분 없이 형식 이름으로 ExportFormat을 찾습니다.
+	 *
+	 * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+	 */
+	public static ExportFormat from(String value) {
+		for (ExportFormat format : values()) {
+			if (format.name().equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported export format: " + value);
+	}
+}
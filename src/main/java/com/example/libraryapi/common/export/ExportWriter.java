@@ -0,0 +1,100 @@
+package com.example.libraryapi.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내보내기 레코드를 NDJSON 또는 CSV 형식으로 출력 스트림에 기록합니다.
+ * 첫 레코드와 이후 FLUSH_INTERVAL건마다 flush하여 클라이언트가 즉시 데이터를 받기 시작할 수 있게 합니다.
+ */
+public class ExportWriter {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int FLUSH_INTERVAL = 500;
+
+	private final Writer writer;
+	private final ExportFormat format;
+	private final ObjectMapper objectMapper;
+	private long written;
+
+	public ExportWriter(OutputStream outputStream, ExportFormat format, ObjectMapper objectMapper) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+		this.format = format;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * CSV 형식인 경우 헤더 행을 기록합니다.
+	 */
+	public void writeHeader(String... columns) throws IOException {
+		if (format == ExportFormat.CSV) {
+			writeCsvLine((Object[]) columns);
+		}
+	}
+
+	/**
+	 * 레코드 하나를 기록합니다.
+	 * NDJSON은 record를 JSON 한 줄로, CSV는 csvValues를 한 행으로 기록합니다.
+	 */
+	public void write(Object record, Object... csvValues) throws IOException {
+		if (format == ExportFormat.NDJSON) {
+			writer.write(objectMapper.writeValueAsString(record));
+			writer.write('\n');
+		} else {
+			writeCsvLine(csvValues);
+		}
+
+		written++;
+		if (written == 1 || written % FLUSH_INTERVAL == 0) {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * 남은 버퍼를 모두 내보냅니다.
+	 */
+	public void finish() throws IOException {
+		writer.flush();
+	}
+
+	public long getWritten() {
+		return written;
+	}
+
+	private void writeCsvLine(Object... values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeCsvValue(values[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	/**
+	 * RFC 4180 규칙에 따라 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감쌉니다.
+	 */
+	private void writeCsvValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+
+		String text = value.toString();
+		boolean needsQuote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+				|| text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+		if (!needsQuote) {
+			writer.write(text);
+			return;
+		}
+
+		writer.write('"');
+		writer.write(text.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.libraryapi.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(keyset) 페이지네이션에 사용하는 커서 유틸리티입니다.
+ * 커서는 마지막으로 조회한 ID를 Base64(URL-safe)로 인코딩한 불투명 문자열입니다.
+ */
+public final class CursorUtils {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private CursorUtils() {
+	}
+
+	/**
+	 * 마지막으로 조회한 ID를 커서 문자열로 인코딩합니다.
+	 */
+	public static String encode(Integer lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열을 ID로 디코딩합니다. 커서가 없으면 처음부터 조회하도록 0을 반환합니다.
+	 *
+	 * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+	 */
+	public static int decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int lastId = Integer.parseInt(decoded);
+			if (lastId < 0) {
+				throw new IllegalArgumentException("Negative cursor: " + cursor);
+			}
+			return lastId;
+		} catch (IllegalArgumentException e) {
+			// NumberFormatException 역시 IllegalArgumentException의 하위 클래스
+			throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+		}
+	}
+
+	/**
+	 * 요청된 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정합니다.
+	 */
+	public static int resolvePageSize(Integer size) {
+		if (size == null) {
+			return DEFAULT_PAGE_SIZE;
+		}
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+}
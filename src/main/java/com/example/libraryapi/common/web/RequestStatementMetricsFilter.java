@@ -0,0 +1,45 @@
+package com.example.libraryapi.common.web;
+
+import com.example.libraryapi.common.db.StatementMetricsDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행한 SQL 문 수를 library.http.server.requests.statements 분포로 기록하는 필터
+ * 요청 스레드에서 실행한 문장만 셉니다. (그룹 커밋 작업 스레드, 비동기 내보내기 스트림에서 실행한 문장은 제외)
+ * 태그는 http.server.requests와 같은 method, uri(매핑된 URI 패턴)입니다. (MetricsConfig에서 등록)
+ */
+@RequiredArgsConstructor
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "library.http.server.requests.statements";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		StatementMetricsDataSource.resetCurrentThreadStatementCount();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder(METRIC_NAME)
+					.description("SQL statements executed per HTTP request")
+					.baseUnit("statements")
+					.tag("method", request.getMethod())
+					.tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+					.register(meterRegistry)
+					.record(StatementMetricsDataSource.currentThreadStatementCount());
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.libraryapi.common.web;
+
+import com.example.libraryapi.common.dto.VersionStamp;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 처리를 위한 리소스 버전입니다.
+ * 응답 본문을 만들기 전에 ETag와 Last-Modified만 먼저 계산해, 변경이 없으면 304로 바로 응답합니다.
+ * 수정일시는 DB에 저장되는 정밀도(밀리초)로 맞춰, 엔티티를 캐시에서 읽든 DB에서 읽든 같은 ETag가 나오도록 합니다.
+ *
+ * @param eTag         따옴표로 감싼 강한 ETag
+ * @param lastModified 최종 수정일시 (epoch 밀리초, 알 수 없으면 -1)
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+	/**
+	 * 단건 리소스의 버전을 ID와 수정일시로 만듭니다.
+	 */
+	public static ResourceVersion of(String type, Integer id, LocalDateTime updatedAt) {
+		long lastModified = toEpochMilli(updatedAt);
+		return new ResourceVersion(quote(type + "-" + id + "-" + Long.toHexString(lastModified)), lastModified);
+	}
+
+	/**
+	 * 목록 리소스의 버전을 테이블 집계(최종 수정일시, 행 수)로 만듭니다.
+	 *
+	 * @param scope 목록 종류를 구분하는 이름 (같은 테이블을 다른 조건으로 조회하는 목록끼리 ETag가 겹치지 않도록 함)
+	 */
+	public static ResourceVersion of(String scope, VersionStamp stamp) {
+		long lastModified = toEpochMilli(stamp.lastModified());
+		long count = stamp.count() != null ? stamp.count() : 0;
+		return new ResourceVersion(quote(scope + "-" + count + "-" + Long.toHexString(lastModified)), lastModified);
+	}
+
+	/**
+	 * 요청의 조건부 헤더를 이 버전과 비교하고, 응답에 ETag와 Last-Modified 헤더를 설정합니다.
+	 * 변경이 없으면 응답 상태가 304로 설정되므로, 호출한 컨트롤러는 본문을 만들지 않고 null을 반환하면 됩니다.
+	 *
+	 * @return 클라이언트가 가진 리소스가 최신이면 true
+	 */
+	public boolean checkNotModified(WebRequest request) {
+		return request.checkNotModified(eTag, lastModified);
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			return -1;
+		}
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static String quote(String tag) {
+		return "\"" + tag + "\"";
+	}
+}
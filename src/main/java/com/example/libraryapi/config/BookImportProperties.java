@@ -0,0 +1,16 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 도서 일괄 등록 설정
+ *
+ * @param chunkSize           하나의 트랜잭션에서 등록할 도서 수
+ * @param maxReportedFailures 응답에 포함할 실패 행의 최대 개수
+ */
+@ConfigurationProperties(prefix = "library.import")
+public record BookImportProperties(
+	@DefaultValue("1000") int chunkSize,
+	@DefaultValue("1000") int maxReportedFailures
+) {}
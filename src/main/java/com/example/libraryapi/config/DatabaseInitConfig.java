@@ -0,0 +1,34 @@
+package com.example.libraryapi.config;
+
+import com.example.libraryapi.common.db.SkipIfInitializedDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 스키마/샘플 데이터 초기화 설정
+ * Spring Boot 기본 초기화기 대신 SkipIfInitializedDatabaseInitializer를 등록해,
+ * library.sql-init.skip-if-initialized=true이면 테이블이 이미 있는 DB에 schema.sql/data.sql을 다시 실행하지 않고,
+ * 인덱스 스크립트(library.sql-init.index-locations)는 어느 경우든 실행합니다.
+ * 조건부 빈 대신 실행 시점에 설정을 확인하므로 AOT 처리된 빌드에서도 같은 설정으로 동작을 바꿀 수 있습니다.
+ */
+@Configuration
+public class DatabaseInitConfig {
+
+	/**
+	 * spring.sql.init.mode=never이면 Boot가 SqlInitializationProperties 빈을 등록하지 않으므로 설정은 Binder로 직접 읽습니다.
+	 */
+	@Bean
+	public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+			Environment environment, DatabaseInitProperties properties) {
+		SqlInitializationProperties sqlInit = Binder.get(environment)
+				.bindOrCreate("spring.sql.init", SqlInitializationProperties.class);
+		return new SkipIfInitializedDatabaseInitializer(dataSource, sqlInit,
+				properties.skipIfInitialized(), properties.indexLocations());
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 스키마/샘플 데이터 초기화(spring.sql.init) 보조 설정
+ *
+ * @param skipIfInitialized 애플리케이션 테이블이 이미 모두 있으면 schema.sql/data.sql을 실행하지 않음
+ *                          (schema.sql은 테이블을 삭제 후 다시 만들므로, 켜면 재시작해도 기존 데이터가 유지됨)
+ * @param indexLocations    스크립트를 건너뛴 경우에도 항상 실행하는 인덱스 스크립트 (CREATE INDEX IF NOT EXISTS만 포함)
+ */
+@ConfigurationProperties(prefix = "library.sql-init")
+public record DatabaseInitProperties(
+	@DefaultValue("false") boolean skipIfInitialized,
+	@DefaultValue("classpath:schema-indexes.sql") List<String> indexLocations
+) {}
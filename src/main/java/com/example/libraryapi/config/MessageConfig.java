@@ -20,6 +20,7 @@ public class MessageConfig {
     /**
      * 메시지 소스 설정
      * messages.properties, messages_en.properties 등의 파일을 읽어옵니다.
+     * 번들은 한 번 읽은 뒤 다시 읽지 않으며, MessageUtils가 (로케일, 코드)별 패턴을 컴파일해 캐시합니다.
      */
     @Bean
     public MessageSource messageSource() {
@@ -28,6 +29,8 @@ public class MessageConfig {
         messageSource.setDefaultEncoding("UTF-8");
         messageSource.setUseCodeAsDefaultMessage(false); // 키를 찾지 못하면 예외 발생
         messageSource.setFallbackToSystemLocale(false); // 시스템 로케일 사용 안함
+        messageSource.setCacheMillis(-1); // 번들을 한 번만 읽고 계속 캐시 (MessageUtils 캐시와 일치)
+        messageSource.setAlwaysUseMessageFormat(false); // 인자가 없는 메시지는 MessageFormat을 거치지 않음
         return messageSource;
     }
 
@@ -0,0 +1,177 @@
+package com.example.libraryapi.config;
+
+import com.example.libraryapi.category.service.CategoryRegistry;
+import com.example.libraryapi.common.db.ConnectionLimitingDataSource;
+import com.example.libraryapi.common.db.StatementMetricsDataSource;
+import com.example.libraryapi.common.db.WriteQueueDataSource;
+import com.example.libraryapi.common.web.RequestStatementMetricsFilter;
+import com.example.libraryapi.rental.service.OverdueRentalSweeper;
+import com.example.libraryapi.rental.service.RentalCommandExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 애플리케이션 메트릭 설정 (/actuator/prometheus로 노출)
+ * 컨트롤러별 타이머(http.server.requests), 리포지토리 메서드별 타이머(spring.data.repository.invocations),
+ * 커넥션 획득 시간(hikaricp.connections.acquire)은 Spring Boot가 자동으로 등록하고,
+ * 여기서는 SQL 문 수/느린 SQL 집계와 SQLite 커넥션 대기열, 그룹 커밋, 연체 스위퍼, 카테고리 레지스트리, 2차 캐시 리전 지표를 추가합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+	/**
+	 * dataSource 빈을 SQL 문 수를 세는 StatementMetricsDataSource로 감쌉니다.
+	 * 빈 후처리기는 다른 빈보다 먼저 만들어지므로 설정은 Binder로 직접 읽습니다.
+	 */
+	@Bean
+	public static BeanPostProcessor statementMetricsDataSourcePostProcessor(Environment environment) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+						|| bean instanceof StatementMetricsDataSource) {
+					return bean;
+				}
+				SlowQueryProperties properties = Binder.get(environment)
+						.bindOrCreate("library.slow-query", SlowQueryProperties.class);
+				return new StatementMetricsDataSource(dataSource, properties.threshold(), properties.sampleRate());
+			}
+		};
+	}
+
+	/**
+	 * 요청당 SQL 문 수
+	 */
+	@Bean
+	public RequestStatementMetricsFilter requestStatementMetricsFilter(MeterRegistry meterRegistry) {
+		return new RequestStatementMetricsFilter(meterRegistry);
+	}
+
+	/**
+	 * SQL 문 수와 느린 SQL 수
+	 */
+	@Bean
+	public MeterBinder statementMetrics(DataSource dataSource) throws SQLException {
+		StatementMetricsDataSource statements = dataSource.unwrap(StatementMetricsDataSource.class);
+		return registry -> {
+			FunctionCounter.builder("library.jdbc.statements", statements, StatementMetricsDataSource::getStatementCount)
+					.description("Executed SQL statements")
+					.register(registry);
+			FunctionCounter.builder("library.jdbc.statements.slow", statements, StatementMetricsDataSource::getSlowStatementCount)
+					.description("SQL statements slower than library.slow-query.threshold")
+					.register(registry);
+		};
+	}
+
+	/**
+	 * SQLite 쓰기 대기열과 읽기 허가 세마포어 (library.sqlite.enabled=true일 때만 등록)
+	 */
+	@Bean
+	public MeterBinder sqliteConnectionMetrics(ObjectProvider<WriteQueueDataSource> writeQueue,
+			ObjectProvider<ConnectionLimitingDataSource> readPermits) {
+		return registry -> {
+			writeQueue.ifAvailable(queue -> {
+				Gauge.builder("library.sqlite.write.waiting", queue, WriteQueueDataSource::getWaitingCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.write.acquired", queue, WriteQueueDataSource::getAcquiredCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.write.rejected", queue, WriteQueueDataSource::getRejectedCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.write.wait", queue, q -> q.getTotalWaitMillis() / 1000.0)
+						.baseUnit("seconds")
+						.register(registry);
+			});
+			readPermits.ifAvailable(permits -> {
+				Gauge.builder("library.sqlite.read.active", permits, ConnectionLimitingDataSource::getActiveCount)
+						.register(registry);
+				Gauge.builder("library.sqlite.read.waiting", permits, ConnectionLimitingDataSource::getWaitingCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.read.acquired", permits, ConnectionLimitingDataSource::getAcquiredCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.read.timeouts", permits, ConnectionLimitingDataSource::getTimeoutCount)
+						.register(registry);
+				FunctionCounter.builder("library.sqlite.read.wait", permits, p -> p.getTotalWaitMillis() / 1000.0)
+						.baseUnit("seconds")
+						.register(registry);
+			});
+		};
+	}
+
+	/**
+	 * 대여/반납 그룹 커밋
+	 */
+	@Bean
+	public MeterBinder rentalGroupCommitMetrics(RentalCommandExecutor executor) {
+		return registry -> {
+			FunctionCounter.builder("library.rental.group-commit.batches", executor, RentalCommandExecutor::getBatchCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.group-commit.commands", executor, RentalCommandExecutor::getBatchedCommandCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.group-commit.fallbacks", executor, RentalCommandExecutor::getFallbackBatchCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.group-commit.overflows", executor, RentalCommandExecutor::getOverflowCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.group-commit.timeouts", executor, RentalCommandExecutor::getTimeoutCount)
+					.register(registry);
+		};
+	}
+
+	/**
+	 * 연체 스위퍼 실행 횟수, 실패 횟수, 연체로 변경한 건수, 마지막 실행 결과
+	 */
+	@Bean
+	public MeterBinder overdueSweepMetrics(OverdueRentalSweeper sweeper) {
+		return registry -> {
+			FunctionCounter.builder("library.rental.overdue-sweep.runs", sweeper, OverdueRentalSweeper::getRunCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.overdue-sweep.failures", sweeper, OverdueRentalSweeper::getFailureCount)
+					.register(registry);
+			FunctionCounter.builder("library.rental.overdue-sweep.swept", sweeper, OverdueRentalSweeper::getTotalSweptCount)
+					.register(registry);
+			Gauge.builder("library.rental.overdue-sweep.last.swept", sweeper, OverdueRentalSweeper::getLastSweptCount)
+					.register(registry);
+			Gauge.builder("library.rental.overdue-sweep.last.duration", sweeper, s -> s.getLastDurationMillis() / 1000.0)
+					.baseUnit("seconds")
+					.register(registry);
+		};
+	}
+
+	/**
+	 * 카테고리 레지스트리 적중/미적중과 재구성 횟수
+	 */
+	@Bean
+	public MeterBinder categoryRegistryMetrics(CategoryRegistry categoryRegistry) {
+		return registry -> {
+			FunctionCounter.builder("library.category.registry.hits", categoryRegistry, CategoryRegistry::getHitCount)
+					.register(registry);
+			FunctionCounter.builder("library.category.registry.misses", categoryRegistry, CategoryRegistry::getMissCount)
+					.register(registry);
+			FunctionCounter.builder("library.category.registry.rebuilds", categoryRegistry, CategoryRegistry::getRebuildCount)
+					.register(registry);
+		};
+	}
+
+	/**
+	 * 2차 캐시 리전별 적중/미적중, 저장, 제거 수 (cache 태그로 리전 구분)
+	 */
+	@Bean
+	public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+		return registry -> List.of(SecondLevelCacheConfig.BOOK_REGION, SecondLevelCacheConfig.CATEGORY_REGION,
+						SecondLevelCacheConfig.BOOK_CATEGORIES_REGION)
+				.forEach(region -> JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region)));
+	}
+}
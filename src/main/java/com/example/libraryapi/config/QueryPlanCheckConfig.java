@@ -0,0 +1,31 @@
+package com.example.libraryapi.config;
+
+import com.example.libraryapi.common.db.ExecutedStatementCollector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실행 계획 점검 설정
+ * Hibernate가 실행하는 SQL을 ExecutedStatementCollector로 모으고, SQL 주석을 켜서
+ * 점검 결과에 원래 쿼리(HQL)와 점검 제외 표시(QueryPlanChecker.FULL_SCAN_EXPECTED)가 함께 보이도록 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.query-plan-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanCheckConfig {
+
+	@Bean
+	public ExecutedStatementCollector executedStatementCollector(QueryPlanCheckProperties properties) {
+		return new ExecutedStatementCollector(properties.maxStatements());
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer queryPlanCheckCustomizer(ExecutedStatementCollector executedStatementCollector) {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, executedStatementCollector);
+			properties.put(AvailableSettings.USE_SQL_COMMENTS, true);
+		};
+	}
+}
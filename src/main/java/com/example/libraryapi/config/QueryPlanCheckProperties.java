@@ -0,0 +1,20 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 실행 계획 점검 설정
+ *
+ * @param enabled       Hibernate가 실행한 SQL을 모아 EXPLAIN QUERY PLAN으로 점검할지 여부
+ * @param interval      새로 실행된 SQL을 점검하는 주기
+ * @param maxStatements 점검을 위해 기억할 서로 다른 SQL의 최대 개수
+ */
+@ConfigurationProperties(prefix = "library.query-plan-check")
+public record QueryPlanCheckProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("1m") Duration interval,
+	@DefaultValue("1000") int maxStatements
+) {}
@@ -0,0 +1,25 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 대여/반납 그룹 커밋 설정
+ * enabled가 true이면 동시에 들어온 대여/반납 요청을 모아 한 트랜잭션(한 번의 커밋)으로 처리합니다.
+ *
+ * @param enabled       그룹 커밋 사용 여부 (false이면 요청마다 트랜잭션을 커밋)
+ * @param maxBatchSize  한 트랜잭션에서 처리할 최대 요청 수
+ * @param maxDelay      첫 요청이 들어온 뒤 다른 요청을 기다리는 최대 시간 (요청당 추가 지연의 상한)
+ * @param queueCapacity 처리를 기다릴 수 있는 최대 요청 수 (초과 시 요청 스레드에서 바로 처리)
+ * @param resultTimeout 요청 스레드가 그룹 커밋 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "library.rental.group-commit")
+public record RentalGroupCommitProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("64") int maxBatchSize,
+	@DefaultValue("5ms") Duration maxDelay,
+	@DefaultValue("1024") int queueCapacity,
+	@DefaultValue("30s") Duration resultTimeout
+) {}
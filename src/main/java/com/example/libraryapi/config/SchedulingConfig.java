@@ -0,0 +1,12 @@
+package com.example.libraryapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 실행을 위한 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,61 @@
+package com.example.libraryapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정
+ * 로컬 인프로세스 JCache 구현체(Caffeine)로 도서, 카테고리, 도서-카테고리 컬렉션을 캐시합니다.
+ * 리전별 크기와 만료 시간은 library.cache.* 설정으로 조정하며,
+ * 리전별 적중/미적중 통계는 JCache 통계 MBean(javax.cache:type=CacheStatistics)과 MetricsConfig의 cache.* 메트릭으로 노출됩니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String BOOK_REGION = "library.book";
+    public static final String CATEGORY_REGION = "library.category";
+    public static final String BOOK_CATEGORIES_REGION = "library.book.categories";
+
+    /**
+     * 리전별 설정을 적용한 JCache 캐시 매니저
+     * Hibernate가 리전을 찾지 못해 기본 설정으로 만드는 일이 없도록 미리 생성해 둡니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, BOOK_REGION, properties.book());
+        createRegion(cacheManager, CATEGORY_REGION, properties.category());
+        createRegion(cacheManager, BOOK_CATEGORIES_REGION, properties.bookCategories());
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate JCache 리전 팩토리가 위 캐시 매니저를 사용하도록 설정합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, SecondLevelCacheProperties.Region region) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        configuration.setManagementEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
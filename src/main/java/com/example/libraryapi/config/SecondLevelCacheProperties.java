@@ -0,0 +1,32 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 리전별 설정
+ *
+ * @param book           도서 엔티티 리전
+ * @param category       카테고리 엔티티 리전
+ * @param bookCategories 도서-카테고리 컬렉션 리전
+ */
+@ConfigurationProperties(prefix = "library.cache")
+public record SecondLevelCacheProperties(
+	@DefaultValue Region book,
+	@DefaultValue Region category,
+	@DefaultValue Region bookCategories
+) {
+
+	/**
+	 * 캐시 리전 하나의 크기와 만료 설정
+	 *
+	 * @param maxEntries 리전에 보관할 최대 항목 수
+	 * @param timeToLive 항목이 저장된 후 만료되기까지의 시간
+	 */
+	public record Region(
+		@DefaultValue("10000") long maxEntries,
+		@DefaultValue("10m") Duration timeToLive
+	) {}
+}
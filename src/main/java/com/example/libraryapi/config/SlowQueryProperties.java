@@ -0,0 +1,18 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 느린 SQL 로그 설정
+ *
+ * @param threshold  이 시간 이상 걸린 SQL을 느린 SQL로 집계
+ * @param sampleRate 느린 SQL 중 로그로 남길 비율 (0.0 ~ 1.0, 집계는 항상 전부)
+ */
+@ConfigurationProperties(prefix = "library.slow-query")
+public record SlowQueryProperties(
+	@DefaultValue("200ms") Duration threshold,
+	@DefaultValue("1.0") double sampleRate
+) {}
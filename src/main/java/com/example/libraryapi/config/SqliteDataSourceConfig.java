@@ -0,0 +1,69 @@
+package com.example.libraryapi.config;
+
+import com.example.libraryapi.common.db.ConnectionLimitingDataSource;
+import com.example.libraryapi.common.db.SqliteDataSources;
+import com.example.libraryapi.common.db.WriteQueueDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * SQLite 전용 DataSource 설정 (library.sqlite.enabled=true일 때 사용)
+ * spring.datasource.url의 DB 파일에 대해 쓰기 커넥션 1개(+ 크기 제한 대기열)와 읽기 전용 커넥션 풀을 따로 만들고,
+ * 트랜잭션의 읽기 전용 여부에 따라 둘 중 하나로 연결합니다.
+ * 쓰기는 대기열로, 읽기는 풀 크기만큼의 허가 세마포어로 동시 사용 스레드 수를 제한하므로
+ * 가상 스레드(spring.threads.virtual.enabled)로 요청을 처리해도 SQLite 호출이 풀 크기 이상 몰리지 않습니다.
+ * PRAGMA와 풀 크기는 library.sqlite.* 설정으로 조정합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.sqlite", name = "enabled", havingValue = "true")
+public class SqliteDataSourceConfig {
+
+	/**
+	 * 쓰기 커넥션 풀 (커넥션 1개)
+	 */
+	@Bean
+	public HikariDataSource sqliteWriteDataSource(DataSourceProperties dataSourceProperties, SqliteProperties properties) {
+		return SqliteDataSources.writer(dataSourceProperties.determineUrl(), properties);
+	}
+
+	/**
+	 * 읽기 전용 커넥션 풀
+	 */
+	@Bean
+	public HikariDataSource sqliteReadDataSource(DataSourceProperties dataSourceProperties, SqliteProperties properties,
+			HikariDataSource sqliteWriteDataSource) {
+		// 쓰기 커넥션이 먼저 열려 WAL 모드로 전환된 뒤에 읽기 커넥션을 엽니다.
+		return SqliteDataSources.reader(dataSourceProperties.determineUrl(), properties);
+	}
+
+	/**
+	 * 읽기 커넥션 풀 앞의 허가 세마포어 (가상 스레드 사용 시 동시 JDBC 호출 수를 풀 크기로 제한)
+	 */
+	@Bean
+	public ConnectionLimitingDataSource sqliteReadPermits(HikariDataSource sqliteReadDataSource, SqliteProperties properties) {
+		return new ConnectionLimitingDataSource(sqliteReadDataSource, properties.readPoolSize(), properties.readPermitTimeout());
+	}
+
+	/**
+	 * 쓰기 커넥션 앞의 대기열
+	 */
+	@Bean
+	public WriteQueueDataSource sqliteWriteQueue(HikariDataSource sqliteWriteDataSource, SqliteProperties properties) {
+		return new WriteQueueDataSource(sqliteWriteDataSource, properties.writeQueueCapacity());
+	}
+
+	/**
+	 * JPA, JdbcTemplate, SQL 초기화가 사용하는 DataSource
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(WriteQueueDataSource sqliteWriteQueue, ConnectionLimitingDataSource sqliteReadPermits) {
+		return SqliteDataSources.routing(sqliteWriteQueue, sqliteReadPermits);
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.libraryapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * SQLite 전용 DataSource 설정
+ * enabled가 true이면 읽기 전용 커넥션 풀과 단일 쓰기 커넥션을 분리한 DataSource를 사용합니다.
+ *
+ * @param enabled            SQLite 전용 DataSource 사용 여부 (false이면 spring.datasource 기본 설정 사용)
+ * @param journalMode        저널 모드 (WAL이면 읽기와 쓰기가 서로를 막지 않음)
+ * @param synchronous        동기화 수준 (WAL에서는 NORMAL이면 커밋마다 fsync하지 않음)
+ * @param busyTimeout        잠금 대기 시간 (초과 시 SQLITE_BUSY)
+ * @param cacheSizeKib       커넥션별 페이지 캐시 크기(KiB)
+ * @param mmapSize           메모리 매핑 I/O 크기(byte, 0이면 사용 안 함)
+ * @param readPoolSize       읽기 전용 커넥션 수
+ * @param readPermitTimeout  읽기 커넥션 허가를 기다리는 최대 시간 (동시에 읽기 커넥션을 빌리는 스레드는 readPoolSize개로 제한)
+ * @param writeQueueCapacity 쓰기 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 거절)
+ * @param writeQueueTimeout  쓰기 커넥션 대기 시간
+ */
+@ConfigurationProperties(prefix = "library.sqlite")
+public record SqliteProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("WAL") String journalMode,
+	@DefaultValue("NORMAL") String synchronous,
+	@DefaultValue("5s") Duration busyTimeout,
+	@DefaultValue("16384") int cacheSizeKib,
+	@DefaultValue("268435456") long mmapSize,
+	@DefaultValue("8") int readPoolSize,
+	@DefaultValue("30s") Duration readPermitTimeout,
+	@DefaultValue("256") int writeQueueCapacity,
+	@DefaultValue("30s") Duration writeQueueTimeout
+) {}
@@ -5,10 +5,16 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Swagger(springdoc) 문서 정보 설정
+ * springdoc이 없는 -Plean 빌드에서는 등록되지 않으며, 빌드 시 생성한 정적 문서(/openapi.json)를 대신 제공합니다.
+ */
 @Configuration
+@ConditionalOnClass(name = "org.springdoc.core.configuration.SpringDocConfiguration")
 public class SwaggerConfig {
 
     @Bean
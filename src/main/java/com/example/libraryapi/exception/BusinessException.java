@@ -5,20 +5,30 @@ import org.springframework.http.HttpStatus;
 /**
  * 비즈니스 로직 예외의 기본 클래스입니다.
  * 모든 커스텀 비즈니스 예외는 이 클래스를 상속받아야 합니다.
+ * "찾을 수 없음", "이미 대여 중" 같은 예상된 오류는 GlobalExceptionHandler가 메시지만 사용하므로
+ * 기본적으로 스택 트레이스를 채우지 않습니다. 디버깅이 필요하면 JVM 옵션
+ * -Dlibrary.exception.stack-trace=true 로 다시 켤 수 있습니다. (원인 예외의 스택 트레이스는 항상 유지)
  */
 public abstract class BusinessException extends RuntimeException {
+
+    /**
+     * 스택 트레이스 기록 여부를 지정하는 시스템 프로퍼티
+     */
+    public static final String STACK_TRACE_PROPERTY = "library.exception.stack-trace";
+
+    static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean(STACK_TRACE_PROPERTY);
     
     private final HttpStatus status;
     private final ErrorCode errorCode;
     
     protected BusinessException(String message, HttpStatus status, ErrorCode errorCode) {
-        super(message);
+        super(message, null, true, STACK_TRACE_ENABLED);
         this.status = status;
         this.errorCode = errorCode;
     }
     
     protected BusinessException(String message, Throwable cause, HttpStatus status, ErrorCode errorCode) {
-        super(message, cause);
+        super(message, cause, true, STACK_TRACE_ENABLED);
         this.status = status;
         this.errorCode = errorCode;
     }
@@ -26,14 +36,14 @@ public abstract class BusinessException extends RuntimeException {
     // 기존 생성자 호환성을 위해 유지 (deprecated)
     @Deprecated
     protected BusinessException(String message, HttpStatus status) {
-        super(message);
+        super(message, null, true, STACK_TRACE_ENABLED);
         this.status = status;
         this.errorCode = ErrorCode.BUSINESS_RULE_VIOLATION; // 기본값
     }
     
     @Deprecated
     protected BusinessException(String message, Throwable cause, HttpStatus status) {
-        super(message, cause);
+        super(message, cause, true, STACK_TRACE_ENABLED);
         this.status = status;
         this.errorCode = ErrorCode.BUSINESS_RULE_VIOLATION; // 기본값
     }
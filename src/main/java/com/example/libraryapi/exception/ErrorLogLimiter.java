@@ -0,0 +1,56 @@
+package com.example.libraryapi.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 1초 단위 창마다 최대 permitsPerSecond건만 로그를 허용하는 제한기
+ * 잘못된 요청이 몰려도 오류 로그 출력 비용이 요청 수에 비례해 늘지 않도록 GlobalExceptionHandler에서 사용합니다.
+ * 허용되지 않은 로그 수는 세어 두었다가 다음에 허용되는 로그와 함께 알립니다.
+ */
+class ErrorLogLimiter {
+
+	/**
+	 * 로그가 허용되지 않았을 때 tryAcquire의 반환값
+	 */
+	static final long SUPPRESSED = -1;
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final int permitsPerSecond;
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+	private final AtomicInteger used = new AtomicInteger();
+	private final AtomicLong suppressed = new AtomicLong();
+
+	ErrorLogLimiter(int permitsPerSecond) {
+		this(permitsPerSecond, System::nanoTime);
+	}
+
+	ErrorLogLimiter(int permitsPerSecond, LongSupplier nanoClock) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 로그 출력 허가를 요청합니다.
+	 *
+	 * @return 허용되면 직전 허용 이후 생략된 로그 수(0 이상), 허용되지 않으면 SUPPRESSED
+	 */
+	long tryAcquire() {
+		long current = Math.floorDiv(nanoClock.getAsLong(), WINDOW_NANOS);
+		long previous = window.get();
+		if (current != previous && window.compareAndSet(previous, current)) {
+			used.set(0);
+		}
+
+		if (used.incrementAndGet() > permitsPerSecond) {
+			suppressed.incrementAndGet();
+			return SUPPRESSED;
+		}
+		return suppressed.getAndSet(0);
+	}
+}
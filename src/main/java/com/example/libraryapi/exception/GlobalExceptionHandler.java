@@ -1,28 +1,53 @@
 package com.example.libraryapi.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 전역 예외 처리기
+ * 잘못된 요청이 몰려도 오류 응답 경로가 정상 경로보다 비싸지지 않도록
+ * 정규식은 미리 컴파일하고, 오류 코드별 상태/코드/메시지는 (오류 코드, 로케일)마다 한 번만 만들어 재사용하며,
+ * 오류 로그는 클라이언트 오류와 서버 오류를 나눠 초당 건수를 제한합니다. (생략된 건수는 다음 로그에 함께 표시)
+ */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 클라이언트 오류(4xx), 서버 오류(5xx) 로그의 초당 최대 건수
+     */
+    static final int CLIENT_ERROR_LOGS_PER_SECOND = 10;
+    static final int SERVER_ERROR_LOGS_PER_SECOND = 10;
+
+    private static final Pattern ENUM_VALUE_PATTERN = Pattern.compile(
+            "Cannot deserialize value of type `(.+?)` from String \"(.+?)\": not one of the values accepted for Enum class: \\[(.+?)\\]");
+
+    private static final String URI_PREFIX = "uri=";
+
     private final MessageUtils messageUtils;
+    private final ConcurrentMap<TemplateKey, ErrorTemplate> templates = new ConcurrentHashMap<>();
+    private final ErrorLogLimiter clientErrorLog = new ErrorLogLimiter(CLIENT_ERROR_LOGS_PER_SECOND);
+    private final ErrorLogLimiter serverErrorLog = new ErrorLogLimiter(SERVER_ERROR_LOGS_PER_SECOND);
 
     @Autowired
     public GlobalExceptionHandler(MessageUtils messageUtils) {
@@ -34,16 +59,16 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex, WebRequest request) {
-        log.error("Business exception: {}", ex.getMessage());
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(ex.getStatus().value())
-                .errorCode(ex.getErrorCode().getCode())
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(extractPath(request))
-                .build();
-        
+        logClientError("Business exception: {}{}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getStatus().value(),
+                ex.getErrorCode().getCode(),
+                ex.getMessage(),
+                LocalDateTime.now(),
+                extractPath(request),
+                null);
+
         return ResponseEntity.status(ex.getStatus()).body(errorResponse);
     }
 
@@ -52,7 +77,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
-        log.error("Validation error: {}", ex.getMessage());
+        logClientError("Validation error: {}{}", ex.getMessage());
         
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
@@ -60,17 +85,9 @@ public class GlobalExceptionHandler {
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST.value())
-                .errorCode(ErrorCode.VALIDATION_FAILED.getCode())
-                .message(messageUtils.getMessageWithDefault("error.E005", "Validation failed"))
-                .timestamp(LocalDateTime.now())
-                .path(extractPath(request))
-                .errors(errors)
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+        ErrorTemplate template = template(ErrorCode.VALIDATION_FAILED, HttpStatus.BAD_REQUEST, "Validation failed");
+        return template.toResponseEntity(extractPath(request), errors);
     }
     
     /**
@@ -78,15 +95,14 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadable(HttpMessageNotReadableException ex, WebRequest request) {
-        log.error("Message not readable: {}", ex.getMessage());
-        
-        String message = messageUtils.getMessageWithDefault("error.E006", "Invalid JSON format");
-        
-        // Enum 값 오류 처리
         String errorMessage = ex.getMessage();
+        logClientError("Message not readable: {}{}", errorMessage);
+
+        ErrorTemplate template = template(ErrorCode.INVALID_JSON_FORMAT, HttpStatus.BAD_REQUEST, "Invalid JSON format");
+
+        // Enum 값 오류 처리
         if (errorMessage != null && errorMessage.contains("Enum class")) {
-            Pattern pattern = Pattern.compile("Cannot deserialize value of type `(.+?)` from String \"(.+?)\": not one of the values accepted for Enum class: \\[(.+?)\\]");
-            Matcher matcher = pattern.matcher(errorMessage);
+            Matcher matcher = ENUM_VALUE_PATTERN.matcher(errorMessage);
             
             if (matcher.find()) {
                 String enumType = matcher.group(1);
@@ -96,20 +112,12 @@ public class GlobalExceptionHandler {
                 // 클래스 이름에서 짧은 이름만 추출 (패키지명 제거)
                 String shortClassName = enumType.substring(enumType.lastIndexOf('.') + 1);
                 
-                message = String.format("유효하지 않은 %s 값입니다: '%s'. 허용된 값: %s", 
-                                      shortClassName, invalidValue, acceptedValues);
+                String message = "유효하지 않은 " + shortClassName + " 값입니다: '" + invalidValue + "'. 허용된 값: " + acceptedValues;
+                return template.withMessage(message).toResponseEntity(extractPath(request), null);
             }
         }
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST.value())
-                .errorCode(ErrorCode.INVALID_JSON_FORMAT.getCode())
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .path(extractPath(request))
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+        return template.toResponseEntity(extractPath(request), null);
     }
     
     /**
@@ -125,25 +133,25 @@ public class GlobalExceptionHandler {
             // 잘못된 인자 예외 (점차 InvalidRequestException으로 대체될 예정)
             status = HttpStatus.BAD_REQUEST;
             errorCode = ErrorCode.INVALID_REQUEST;
-            log.error("Invalid argument: {}", message);
+            logClientError("Invalid argument: {}{}", message);
         } else if (ex instanceof IllegalStateException) {
             // 상태 충돌 예외 (점차 ResourceInUseException으로 대체될 예정)
             status = HttpStatus.CONFLICT;
             errorCode = ErrorCode.RESOURCE_IN_USE;
-            log.error("State conflict: {}", message);
+            logClientError("State conflict: {}{}", message);
         } else {
             // 기타 런타임 예외
-            log.error("Runtime exception", ex);
+            logServerError("Runtime exception", ex);
         }
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(status.value())
-                .errorCode(errorCode.getCode())
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .path(extractPath(request))
-                .build();
-        
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                errorCode.getCode(),
+                message,
+                LocalDateTime.now(),
+                extractPath(request),
+                null);
+
         return ResponseEntity.status(status).body(errorResponse);
     }
 
@@ -152,24 +160,82 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
-        log.error("Unexpected internal server error", ex);
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .errorCode(ErrorCode.INTERNAL_SERVER_ERROR.getCode())
-                .message(messageUtils.getMessageWithDefault("error.E999", "Internal server error"))
-                .timestamp(LocalDateTime.now())
-                .path(extractPath(request))
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        logServerError("Unexpected internal server error", ex);
+
+        ErrorTemplate template = template(ErrorCode.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+        return template.toResponseEntity(extractPath(request), null);
     }
-    
+
+    /**
+     * 현재 로케일의 오류 응답 템플릿을 반환하는 헬퍼 메서드 (오류 코드, 로케일마다 메시지는 한 번만 조회)
+     */
+    private ErrorTemplate template(ErrorCode errorCode, HttpStatus status, String defaultMessage) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return templates.computeIfAbsent(new TemplateKey(errorCode, locale), key -> new ErrorTemplate(
+                status,
+                errorCode.getCode(),
+                messageUtils.getMessageWithDefault("error." + errorCode.getCode(), defaultMessage)));
+    }
+
+    /**
+     * 클라이언트 오류 로그를 초당 건수 제한 안에서 남기는 헬퍼 메서드
+     */
+    private void logClientError(String format, String message) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        long suppressed = clientErrorLog.tryAcquire();
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            log.error(format, message, suppressedSuffix(suppressed));
+        }
+    }
+
+    /**
+     * 서버 오류 로그(스택 트레이스 포함)를 초당 건수 제한 안에서 남기는 헬퍼 메서드
+     */
+    private void logServerError(String message, Throwable ex) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        long suppressed = serverErrorLog.tryAcquire();
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            log.error(message + suppressedSuffix(suppressed), ex);
+        }
+    }
+
+    private static String suppressedSuffix(long suppressed) {
+        return suppressed == 0 ? "" : " (" + suppressed + " similar errors suppressed)";
+    }
+
     /**
      * WebRequest에서 요청 경로를 추출하는 헬퍼 메서드
      */
     private String extractPath(WebRequest request) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletRequest servletRequest = nativeRequest.getNativeRequest(HttpServletRequest.class);
+            if (servletRequest != null) {
+                return servletRequest.getRequestURI();
+            }
+        }
         String description = request.getDescription(false);
-        return description.replace("uri=", "");
+        return description.startsWith(URI_PREFIX) ? description.substring(URI_PREFIX.length()) : description;
+    }
+
+    private record TemplateKey(ErrorCode errorCode, Locale locale) {
+    }
+
+    /**
+     * 오류 코드별로 변하지 않는 응답 값 (상태, 코드, 메시지)
+     */
+    private record ErrorTemplate(HttpStatus status, String errorCode, String message) {
+
+        ErrorTemplate withMessage(String message) {
+            return new ErrorTemplate(status, errorCode, message);
+        }
+
+        ResponseEntity<ErrorResponse> toResponseEntity(String path, Map<String, String> errors) {
+            ErrorResponse body = new ErrorResponse(status.value(), errorCode, message, LocalDateTime.now(), path, errors);
+            return ResponseEntity.status(status).body(body);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.example.libraryapi.exception;
+
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 미리 컴파일한 메시지 패턴
+ * "도서를 찾을 수 없습니다. ID: {0}"처럼 인덱스 자리표시자만 있는 패턴은 리터럴 조각과 인자 인덱스로 나눠 두고
+ * 호출마다 MessageFormat을 만들지 않고 이어 붙입니다. 결과는 MessageFormat과 같으며,
+ * 작은따옴표나 {0,number} 같은 형식 지정이 있는 패턴, 날짜 인자는 MessageFormat으로 처리합니다.
+ */
+final class MessageTemplate {
+
+	private final String pattern;
+	private final String[] literals;
+	private final int[] argumentIndexes;
+
+	private MessageTemplate(String pattern, String[] literals, int[] argumentIndexes) {
+		this.pattern = pattern;
+		this.literals = literals;
+		this.argumentIndexes = argumentIndexes;
+	}
+
+	/**
+	 * 메시지 패턴을 컴파일합니다.
+	 */
+	static MessageTemplate compile(String pattern) {
+		if (pattern.indexOf('\'') >= 0) {
+			return new MessageTemplate(pattern, null, null);
+		}
+
+		List<String> literals = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		int start = 0;
+		int open;
+		while ((open = pattern.indexOf('{', start)) >= 0) {
+			int close = pattern.indexOf('}', open);
+			if (close < 0 || !isIndex(pattern, open + 1, close)) {
+				return new MessageTemplate(pattern, null, null);
+			}
+			literals.add(pattern.substring(start, open));
+			indexes.add(Integer.parseInt(pattern, open + 1, close, 10));
+			start = close + 1;
+		}
+		literals.add(pattern.substring(start));
+
+		return new MessageTemplate(pattern, literals.toArray(String[]::new),
+				indexes.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * 인자를 채운 메시지를 반환합니다. 인자가 없으면 패턴을 그대로 반환합니다. (MessageSource와 같은 동작)
+	 */
+	String format(Object[] args, Locale locale) {
+		if (args == null || args.length == 0) {
+			return pattern;
+		}
+		if (literals == null || hasDateArgument(args)) {
+			return new MessageFormat(pattern, locale).format(args);
+		}
+
+		StringBuilder builder = new StringBuilder(pattern.length() + 16);
+		for (int i = 0; i < argumentIndexes.length; i++) {
+			builder.append(literals[i]);
+			int index = argumentIndexes[i];
+			if (index < args.length) {
+				appendArgument(builder, args[index], locale);
+			} else {
+				builder.append('{').append(index).append('}');
+			}
+		}
+		return builder.append(literals[literals.length - 1]).toString();
+	}
+
+	/**
+	 * MessageFormat과 같은 규칙으로 인자를 붙입니다. (숫자는 로케일 숫자 형식, 그 외는 toString)
+	 * 세 자리 이하 정수는 자릿수 구분 기호가 없으므로 NumberFormat을 만들지 않습니다.
+	 */
+	private static void appendArgument(StringBuilder builder, Object arg, Locale locale) {
+		if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+			long value = ((Number) arg).longValue();
+			if (value > -1000 && value < 1000) {
+				builder.append(value);
+				return;
+			}
+		}
+		if (arg instanceof Number number) {
+			builder.append(NumberFormat.getInstance(locale).format(number));
+		} else {
+			builder.append(arg);
+		}
+	}
+
+	private static boolean hasDateArgument(Object[] args) {
+		for (Object arg : args) {
+			if (arg instanceof Date) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isIndex(String pattern, int from, int to) {
+		if (from == to) {
+			return false;
+		}
+		for (int i = from; i < to; i++) {
+			char c = pattern.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -2,19 +2,28 @@ package com.example.libraryapi.exception;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * 국제화(i18n) 메시지 처리를 위한 유틸리티 클래스입니다.
  * MessageSource를 활용하여 다국어 메시지를 제공합니다.
+ * 메시지 패턴은 (로케일, 코드)마다 처음 한 번만 MessageSource에서 읽어 컴파일해 두고(MessageTemplate),
+ * 이후에는 MessageSource와 MessageFormat을 거치지 않고 인자만 채웁니다.
+ * 메시지 파일은 실행 중에 다시 읽지 않는다고 가정합니다. (MessageConfig 참고)
  */
 @Component
 public class MessageUtils {
     
     private final MessageSource messageSource;
+    private final Map<Locale, Map<String, Optional<MessageTemplate>>> catalogs = new ConcurrentHashMap<>();
     
     @Autowired
     public MessageUtils(MessageSource messageSource) {
@@ -29,7 +38,7 @@ public class MessageUtils {
      * @return 로케일에 맞는 메시지
      */
     public String getMessage(String code, Object... args) {
-        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+        return getMessage(code, LocaleContextHolder.getLocale(), args);
     }
     
     /**
@@ -41,7 +50,9 @@ public class MessageUtils {
      * @return 지정된 로케일에 맞는 메시지
      */
     public String getMessage(String code, Locale locale, Object... args) {
-        return messageSource.getMessage(code, args, locale);
+        return template(code, locale)
+                .orElseThrow(() -> new NoSuchMessageException(code, locale))
+                .format(args, locale);
     }
     
     /**
@@ -53,6 +64,32 @@ public class MessageUtils {
      * @return 메시지 또는 기본 메시지
      */
     public String getMessageWithDefault(String code, String defaultMessage, Object... args) {
-        return messageSource.getMessage(code, args, defaultMessage, LocaleContextHolder.getLocale());
+        Locale locale = LocaleContextHolder.getLocale();
+        Optional<MessageTemplate> template = template(code, locale);
+        return template.isPresent() ? template.get().format(args, locale) : defaultMessage;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 메시지를 찾을 수 없을 때만 기본 메시지를 만들어 반환합니다.
+     * 메시지가 있으면 기본 메시지 문자열을 조립하지 않습니다.
+     * 
+     * @param code 메시지 코드
+     * @param defaultMessage 기본 메시지 공급자
+     * @param args 메시지 파라미터
+     * @return 메시지 또는 기본 메시지
+     */
+    public String getMessageWithDefault(String code, Supplier<String> defaultMessage, Object... args) {
+        Locale locale = LocaleContextHolder.getLocale();
+        Optional<MessageTemplate> template = template(code, locale);
+        return template.isPresent() ? template.get().format(args, locale) : defaultMessage.get();
+    }
+
+    /**
+     * (로케일, 코드)의 컴파일된 메시지 패턴을 반환합니다. 없는 코드도 결과를 기억해 다시 조회하지 않습니다.
+     */
+    private Optional<MessageTemplate> template(String code, Locale locale) {
+        return catalogs.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, key -> Optional.ofNullable(messageSource.getMessage(code, null, null, locale))
+                        .map(MessageTemplate::compile));
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.libraryapi.rental.controller;
 
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.export.ExportFormat;
 import com.example.libraryapi.rental.dto.RentalRequestDto;
 import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.service.RentalExportService;
 import com.example.libraryapi.rental.service.RentalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +28,7 @@ import java.util.List;
 public class RentalController {
 
     private final RentalService rentalService;
+    private final RentalExportService rentalExportService;
 
     @PostMapping("/borrow")
     @Operation(summary = "도서 대여", description = "도서를 대여합니다. 대여 가능한 도서에 한해 대여가 가능합니다.")
@@ -37,22 +45,54 @@ public class RentalController {
     }
 
     @GetMapping
-    @Operation(summary = "대여 목록 조회", description = "전체 대여 목록을 조회합니다.")
-    public ResponseEntity<List<RentalResponseDto>> getAllRentals() {
+    @Operation(summary = "대여 목록 조회", description = "전체 대여 목록을 조회합니다. 변경이 없으면 304를 응답합니다.")
+    public ResponseEntity<List<RentalResponseDto>> getAllRentals(WebRequest webRequest) {
+        if (rentalService.getRentalsVersion().checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(rentalService.getAllRentals());
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "대여 이력 내보내기", description = "전체 대여 이력을 NDJSON 또는 CSV 형식으로 스트리밍하여 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportRentals(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> rentalExportService.exportRentals(outputStream, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rentals." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "대여 상세 조회", description = "단일 대여 정보를 조회합니다.")
+    @Operation(summary = "대여 상세 조회", description = "단일 대여 정보를 조회합니다. 변경이 없으면 304를 응답합니다.")
     public ResponseEntity<RentalResponseDto> getRentalById(
             @Parameter(description = "조회할 대여 ID", example = "1") 
-            @PathVariable Integer id) {
+            @PathVariable Integer id,
+            WebRequest webRequest) {
+        if (rentalService.getRentalVersion(id).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(rentalService.getRentalById(id));
     }
 
     @GetMapping("/overdue")
-    @Operation(summary = "연체 목록 조회", description = "반납 기한이 지난 연체 도서 목록을 조회합니다.")
-    public ResponseEntity<List<RentalResponseDto>> getOverdueRentals() {
-        return ResponseEntity.ok(rentalService.getOverdueRentals());
+    @Operation(summary = "연체 목록 조회", description = "반납 기한이 지난 연체 도서 목록을 ID 순으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회합니다. 변경이 없으면 304를 응답합니다.")
+    public ResponseEntity<CursorPageResponseDto<RentalResponseDto>> getOverdueRentals(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        if (rentalService.getOverdueRentalsVersion().checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(rentalService.getOverdueRentals(cursor, size));
     }
 } 
\ No newline at end of file
@@ -27,8 +27,8 @@ public record RentalResponseDto(
     @Schema(description = "대여일시", example = "2025-12-01T09:00:00")
     LocalDateTime borrowedAt,
     
-    @Schema(description = "반납일시", example = "2025-12-10T09:00:00")
-    LocalDateTime returnedAt,
+    @Schema(description = "반납일 (반납 전이면 null)", example = "2025-12-10")
+    LocalDate returnedDate,
     
     @Schema(description = "대여 상태", example = "BORROWED")
     RentalStatus status,
@@ -49,13 +49,30 @@ public record RentalResponseDto(
             rental.getBook().getTitle(),
             rental.getDueDate(),
             rental.getCreatedAt(),   // 대여일시는 생성일시와 동일하게 처리
-            null,                   // 반납일시는 현재 엔티티에 없으므로 null로 설정
+            rental.getReturnedDate(),
             rental.getStatus(),
             rental.getCreatedAt(),
             rental.getUpdatedAt()
         );
     }
     
+    /**
+     * RentalRow 프로젝션으로부터 RentalResponseDto를 생성합니다.
+     */
+    public static RentalResponseDto from(RentalRow row) {
+        return new RentalResponseDto(
+            row.id(),
+            row.bookId(),
+            row.bookTitle(),
+            row.dueDate(),
+            row.createdAt(),        // 대여일시는 생성일시와 동일하게 처리
+            row.returnedDate(),
+            row.status(),
+            row.createdAt(),
+            row.updatedAt()
+        );
+    }
+    
     /**
      * Rental 엔티티 리스트로부터 RentalResponseDto 리스트를 생성합니다.
      */
@@ -64,4 +81,13 @@ public record RentalResponseDto(
             .map(RentalResponseDto::from)
             .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    /**
+     * RentalRow 프로젝션 리스트로부터 RentalResponseDto 리스트를 생성합니다.
+     */
+    public static List<RentalResponseDto> listFromRows(List<RentalRow> rows) {
+        return rows.stream()
+            .map(RentalResponseDto::from)
+            .collect(Collectors.toList());
+    }
+}
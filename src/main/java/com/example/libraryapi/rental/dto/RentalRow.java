@@ -0,0 +1,20 @@
+package com.example.libraryapi.rental.dto;
+
+import com.example.libraryapi.rental.entity.RentalStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 도서 제목을 조인으로 함께 조회하는 대여 정보 프로젝션
+ */
+public record RentalRow(
+		Integer id,
+		Integer bookId,
+		String bookTitle,
+		LocalDate dueDate,
+		LocalDate returnedDate,
+		RentalStatus status,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt) {
+}
@@ -78,13 +78,4 @@ public class Rental {
         // 반납 기한이 지났으면 연체
         return LocalDate.now().isAfter(dueDate);
     }
-    
-    /**
-     * 연체 상태인 경우 상태를 OVERDUE로 업데이트합니다.
-     */
-    public void updateOverdueStatus() {
-        if (isOverdue() && status != RentalStatus.OVERDUE) {
-            this.status = RentalStatus.OVERDUE;
-        }
-    }
-} 
\ No newline at end of file
+}
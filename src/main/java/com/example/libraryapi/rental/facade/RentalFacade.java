@@ -3,21 +3,32 @@ package com.example.libraryapi.rental.facade;
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.entity.BookStatus;
 import com.example.libraryapi.book.repository.BookRepository;
+import com.example.libraryapi.common.dto.VersionStamp;
 import com.example.libraryapi.exception.InvalidRequestException;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.exception.ResourceInUseException;
 import com.example.libraryapi.exception.ResourceNotFoundException;
+import com.example.libraryapi.rental.dto.RentalRow;
 import com.example.libraryapi.rental.entity.Rental;
 import com.example.libraryapi.rental.entity.RentalStatus;
 import com.example.libraryapi.rental.repository.RentalRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 대여 관련 데이터 액세스 계층과 비즈니스 로직 사이의 Facade
@@ -26,9 +37,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RentalFacade {
 
+    private static final String CLAIM_BOOK_SQL =
+            "UPDATE books SET status = ?, updated_at = ? WHERE id = ? AND status = ?";
+
     private final RentalRepository rentalRepository;
     private final BookRepository bookRepository;
     private final MessageUtils messageUtils;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     /**
      * 도서 ID로 도서를 조회합니다.
@@ -36,7 +52,7 @@ public class RentalFacade {
     public Book findBookById(Integer bookId) {
         return bookRepository.findById(bookId)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                    messageUtils.getMessageWithDefault("book.not.found", "Book not found. ID: " + bookId, bookId)));
+                    messageUtils.getMessageWithDefault("book.not.found", () -> "Book not found. ID: " + bookId, bookId)));
     }
 
     /**
@@ -46,6 +62,34 @@ public class RentalFacade {
         return rentalRepository.findActiveRentalByBookId(bookId);
     }
 
+    /**
+     * 대여 가능한 도서를 조건부 UPDATE 한 번으로 대여 불가 상태로 선점합니다.
+     * 검증과 상태 변경 사이에 다른 요청이 끼어들 수 없으므로, 동시에 같은 도서를 대여해도 한 요청만 성공합니다.
+     * 쓰기 트랜잭션의 첫 문장이 UPDATE이므로 SQLite에서 읽기 잠금을 쓰기 잠금으로 올리다 SQLITE_BUSY가 나는 일도 없습니다.
+     * 실행 전에 영속성 컨텍스트를 flush해 그룹 커밋 묶음에서 앞선 요청의 반납도 선점 조건에 반영하고,
+     * 2차 캐시에서는 해당 도서 항목만 트랜잭션이 끝날 때까지 잠가(soft lock) 다른 도서의 캐시는 그대로 둡니다.
+     * 잠긴 동안에는 캐시를 읽지도 채우지도 않으므로, 이후 findBookById는 성공/실패 경로 모두 DB의 현재 상태를 읽고
+     * 동시에 조회한 요청이 변경 전 상태를 캐시에 다시 넣지도 못합니다.
+     *
+     * @return 선점에 성공하면 true, 도서가 없거나 대여 가능 상태가 아니면 false
+     */
+    public boolean claimBook(Integer bookId) {
+        entityManager.flush();
+        lockCachedBookUntilCompletion(bookId);
+        int updated = jdbcTemplate.update(CLAIM_BOOK_SQL,
+                BookStatus.UNAVAILABLE.name(), Timestamp.valueOf(LocalDateTime.now()), bookId, BookStatus.AVAILABLE.name());
+        entityManager.clear();
+        return updated > 0;
+    }
+
+    /**
+     * 도서 선점 경쟁에서 진 요청에 대한 예외를 생성합니다.
+     */
+    public ResourceInUseException borrowConflict(Integer bookId) {
+        return new ResourceInUseException(
+            messageUtils.getMessageWithDefault("rental.conflict", () -> "Book was just rented by another request. Book ID: " + bookId, bookId));
+    }
+
     /**
      * 도서의 상태를 변경합니다.
      */
@@ -56,39 +100,71 @@ public class RentalFacade {
 
     /**
      * 대여 정보를 저장합니다.
+     * 도서당 활성 대여는 하나뿐이라는 부분 유니크 인덱스(ux_rentals_active_book)에 걸리면 충돌로 응답합니다.
      */
     public Rental saveRental(Rental rental) {
-        return rentalRepository.save(rental);
+        try {
+            return rentalRepository.save(rental);
+        } catch (DataIntegrityViolationException e) {
+            Integer bookId = rental.getBook().getId();
+            throw new ResourceInUseException(
+                messageUtils.getMessageWithDefault("rental.active.exists", () -> "Book already has an active rental. Book ID: " + bookId, bookId), e);
+        }
     }
 
     /**
-     * 대여 정보 ID로 대여 정보를 조회합니다.
+     * 대여 정보 ID로 대여 정보를 도서와 함께 조회합니다.
      */
     public Rental findRentalById(Integer rentalId) {
-        return rentalRepository.findById(rentalId)
+        return rentalRepository.findWithBookById(rentalId)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                    messageUtils.getMessageWithDefault("rental.not.found", "Rental information not found. ID: " + rentalId, rentalId)));
+                    messageUtils.getMessageWithDefault("rental.not.found", () -> "Rental information not found. ID: " + rentalId, rentalId)));
     }
 
     /**
-     * 모든 대여 정보를 조회합니다.
+     * 대여 정보 ID로 수정일시만 조회합니다.
      */
-    public List<Rental> findAllRentals() {
-        return rentalRepository.findAll();
+    public LocalDateTime findRentalUpdatedAt(Integer rentalId) {
+        return rentalRepository.findUpdatedAtById(rentalId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    messageUtils.getMessageWithDefault("rental.not.found", () -> "Rental information not found. ID: " + rentalId, rentalId)));
     }
 
     /**
-     * 연체된 대여 정보를 조회합니다.
+     * 전체 대여 정보의 최종 수정일시와 건수를 조회합니다.
      */
-    public List<Rental> findOverdueRentals() {
-        return rentalRepository.findOverdueRentals(LocalDate.now());
+    public VersionStamp findRentalsVersionStamp() {
+        return rentalRepository.findVersionStamp();
     }
 
     /**
-     * 연체된 대여 정보 목록을 저장합니다.
+     * 모든 대여 정보를 도서 제목과 함께 프로젝션으로 조회합니다.
      */
-    public List<Rental> saveAllRentals(List<Rental> rentals) {
-        return rentalRepository.saveAll(rentals);
+    public List<RentalRow> findAllRentals() {
+        return rentalRepository.findAllRows();
+    }
+
+    /**
+     * 내보내기용으로 전체 대여 정보를 스트리밍합니다.
+     */
+    public Stream<RentalRow> streamRentalsForExport() {
+        return rentalRepository.streamAllForExport();
+    }
+
+    /**
+     * 연체된 대여 정보를 지정한 ID 이후부터 최대 limit건 프로젝션으로 조회합니다.
+     */
+    public List<RentalRow> findOverdueRentals(Integer after, int limit) {
+        return rentalRepository.findOverdueRowsAfter(LocalDate.now(), after, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * 반납 기한이 지난 대여 중 정보를 연체 상태로 일괄 변경합니다.
+     *
+     * @return 연체 상태로 변경된 건수
+     */
+    public int markOverdueRentals() {
+        return rentalRepository.markOverdue(LocalDate.now(), LocalDateTime.now());
     }
 
     /**
@@ -97,7 +173,7 @@ public class RentalFacade {
     public void validateBookAvailable(Book book) {
         if (book.getStatus() != BookStatus.AVAILABLE) {
             throw new InvalidRequestException(
-                messageUtils.getMessageWithDefault("book.not.available", "Book cannot be rented. Current status: " + book.getStatus(), book.getStatus()));
+                messageUtils.getMessageWithDefault("book.not.available", () -> "Book cannot be rented. Current status: " + book.getStatus(), book.getStatus()));
         }
     }
 
@@ -108,7 +184,7 @@ public class RentalFacade {
         findActiveRentalByBookId(bookId)
             .ifPresent(rental -> {
                 throw new ResourceInUseException(
-                    messageUtils.getMessageWithDefault("rental.already.exists", "Book is already rented. Current status: " + rental.getStatus(), rental.getStatus()));
+                    messageUtils.getMessageWithDefault("rental.already.exists", () -> "Book is already rented. Current status: " + rental.getStatus(), rental.getStatus()));
             });
     }
 
@@ -123,11 +199,19 @@ public class RentalFacade {
     }
 
     /**
-     * 연체 상태 업데이트가 필요한 대여 목록을 필터링합니다.
+     * 2차 캐시의 도서 항목을 잠그고, 트랜잭션이 끝나면(커밋/롤백 모두) 잠금을 푸는 내부 메소드
+     * Hibernate가 엔티티를 변경할 때와 같은 방식이므로, 잠금이 풀리기 전에 읽은 변경 전 상태는 캐시에 들어가지 않습니다.
      */
-    public List<Rental> filterRentalsForOverdueUpdate(List<Rental> rentals) {
-        return rentals.stream()
-                .filter(rental -> rental.getStatus() != RentalStatus.OVERDUE)
-                .collect(Collectors.toList());
+    private void lockCachedBookUntilCompletion(Integer bookId) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Book.class);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) {
+            return;
+        }
+
+        Object key = cacheAccess.generateCacheKey(bookId, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        session.getActionQueue().registerProcess((success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
     }
-} 
\ No newline at end of file
+}
@@ -1,15 +1,25 @@
 package com.example.libraryapi.rental.repository;
 
 import com.example.libraryapi.book.entity.Book;
+import com.example.libraryapi.common.dto.VersionStamp;
+import com.example.libraryapi.rental.dto.RentalRow;
 import com.example.libraryapi.rental.entity.Rental;
 import com.example.libraryapi.rental.entity.RentalStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RentalRepository extends JpaRepository<Rental, Integer> {
@@ -20,7 +30,59 @@ public interface RentalRepository extends JpaRepository<Rental, Integer> {
     
     @Query("SELECT r FROM Rental r WHERE r.book.id = :bookId AND (r.status = 'BORROWED' OR r.status = 'OVERDUE')")
     Optional<Rental> findActiveRentalByBookId(Integer bookId);
+
+    /**
+     * 대여 정보를 도서와 함께 한 번의 쿼리로 조회합니다. (응답 DTO의 도서 ID/제목 접근 시 추가 쿼리 없음)
+     */
+    @Query("SELECT r FROM Rental r JOIN FETCH r.book WHERE r.id = :id")
+    Optional<Rental> findWithBookById(@Param("id") Integer id);
     
-    @Query("SELECT r FROM Rental r WHERE r.dueDate < :date AND (r.status = 'BORROWED' OR r.status = 'OVERDUE')")
-    List<Rental> findOverdueRentals(LocalDate date);
-} 
\ No newline at end of file
+    /**
+     * 전체 대여 정보를 도서 제목과 함께 ID 순으로 조회합니다.
+     * DTO 프로젝션이므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     */
+    @Query("SELECT new com.example.libraryapi.rental.dto.RentalRow(r.id, b.id, b.title, r.dueDate, r.returnedDate, r.status, r.createdAt, r.updatedAt) " +
+           "FROM Rental r JOIN r.book b ORDER BY r.id")
+    List<RentalRow> findAllRows();
+
+    /**
+     * 연체된 대여 정보를 도서 제목과 함께 ID 순으로 키셋 페이지 조회합니다.
+     * 연체 상태 반영 주기 사이의 대여도 포함되도록 반납 기한으로 판단합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.rental.dto.RentalRow(r.id, b.id, b.title, r.dueDate, r.returnedDate, r.status, r.createdAt, r.updatedAt) " +
+           "FROM Rental r JOIN r.book b " +
+           "WHERE r.dueDate < :date AND (r.status = 'BORROWED' OR r.status = 'OVERDUE') " +
+           "AND r.id > :after ORDER BY r.id")
+    List<RentalRow> findOverdueRowsAfter(@Param("date") LocalDate date, @Param("after") Integer after, Pageable pageable);
+
+    /**
+     * 반납 기한이 지난 대여 중 정보를 한 번의 UPDATE로 연체 상태로 변경합니다.
+     *
+     * @return 연체 상태로 변경된 건수
+     */
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = com.example.libraryapi.rental.entity.RentalStatus.OVERDUE, r.updatedAt = :now " +
+           "WHERE r.dueDate < :date AND r.status = com.example.libraryapi.rental.entity.RentalStatus.BORROWED")
+    int markOverdue(@Param("date") LocalDate date, @Param("now") LocalDateTime now);
+
+    /**
+     * 내보내기용으로 전체 대여 정보를 도서 제목과 함께 ID 순으로 순방향 스트리밍합니다.
+     * 트랜잭션 안에서 사용 후 반드시 닫아야 합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.rental.dto.RentalRow(r.id, b.id, b.title, r.dueDate, r.returnedDate, r.status, r.createdAt, r.updatedAt) " +
+           "FROM Rental r JOIN r.book b ORDER BY r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<RentalRow> streamAllForExport();
+
+    /**
+     * 대여 정보의 조건부 GET 처리를 위해 수정일시만 조회합니다.
+     */
+    @Query("SELECT r.updatedAt FROM Rental r WHERE r.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Integer id);
+
+    /**
+     * 대여 목록의 조건부 GET 처리를 위해 전체 대여 정보의 최종 수정일시와 건수를 조회합니다.
+     */
+    @Query("SELECT new com.example.libraryapi.common.dto.VersionStamp(MAX(r.updatedAt), COUNT(r)) FROM Rental r")
+    VersionStamp findVersionStamp();
+}
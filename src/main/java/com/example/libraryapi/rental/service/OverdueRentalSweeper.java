@@ -0,0 +1,109 @@
+package com.example.libraryapi.rental.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반납 기한이 지난 대여를 주기적으로 연체 상태로 변경하는 스위퍼
+ * 조회 요청마다 대여 정보를 한 건씩 갱신하는 대신, 주기마다 한 번의 UPDATE로 일괄 반영합니다.
+ * 실행 주기는 library.overdue-sweep.cron으로 설정하며 "-"로 지정하면 주기 실행을 끕니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueRentalSweeper {
+
+	private final RentalService rentalService;
+
+	private final AtomicLong runCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private final AtomicLong totalSweptCount = new AtomicLong();
+	private volatile int lastSweptCount;
+	private volatile long lastDurationMillis;
+	private volatile LocalDateTime lastRunAt;
+
+	/**
+	 * 애플리케이션 시작 직후 한 번, 이후 설정된 주기마다 연체 상태를 일괄 반영합니다.
+	 * 이벤트 리스너의 반환값은 새 이벤트로 발행되므로 반환값 없이 sweep()에 위임합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${library.overdue-sweep.cron:0 * * * * *}")
+	public void sweepOnSchedule() {
+		sweep();
+	}
+
+	/**
+	 * 연체 상태를 일괄 반영합니다.
+	 *
+	 * @return 연체 상태로 변경된 건수
+	 */
+	public int sweep() {
+		long start = System.nanoTime();
+		try {
+			int swept = rentalService.markOverdueRentals();
+			lastSweptCount = swept;
+			totalSweptCount.addAndGet(swept);
+			if (swept > 0) {
+				log.info("Overdue sweep marked {} rentals as OVERDUE", swept);
+			}
+			return swept;
+		} catch (RuntimeException e) {
+			failureCount.incrementAndGet();
+			log.warn("Overdue sweep failed: {}", e.getMessage());
+			return 0;
+		} finally {
+			runCount.incrementAndGet();
+			lastDurationMillis = (System.nanoTime() - start) / 1_000_000;
+			lastRunAt = LocalDateTime.now();
+		}
+	}
+
+	/**
+	 * 스위퍼 실행 횟수를 반환합니다.
+	 */
+	public long getRunCount() {
+		return runCount.get();
+	}
+
+	/**
+	 * 실패한 실행 횟수를 반환합니다.
+	 */
+	public long getFailureCount() {
+		return failureCount.get();
+	}
+
+	/**
+	 * 지금까지 연체 상태로 변경한 전체 건수를 반환합니다.
+	 */
+	public long getTotalSweptCount() {
+		return totalSweptCount.get();
+	}
+
+	/**
+	 * 마지막 실행에서 연체 상태로 변경한 건수를 반환합니다.
+	 */
+	public int getLastSweptCount() {
+		return lastSweptCount;
+	}
+
+	/**
+	 * 마지막 실행에 걸린 시간(ms)을 반환합니다.
+	 */
+	public long getLastDurationMillis() {
+		return lastDurationMillis;
+	}
+
+	/**
+	 * 마지막 실행 시각을 반환합니다. 아직 실행되지 않았으면 null입니다.
+	 */
+	public LocalDateTime getLastRunAt() {
+		return lastRunAt;
+	}
+}
@@ -0,0 +1,314 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.config.RentalGroupCommitProperties;
+import com.example.libraryapi.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대여/반납 쓰기 작업을 트랜잭션 안에서 실행하는 실행기
+ * 기본적으로 요청마다 트랜잭션을 커밋하며, library.rental.group-commit.enabled=true이면 그룹 커밋으로 동작합니다.
+ * 그룹 커밋에서는 요청을 대기열에 넣고, 전용 스레드가 최대 maxDelay 동안 최대 maxBatchSize건을 모아 한 트랜잭션으로 커밋합니다.
+ * SQLite는 커밋마다 디스크 동기화가 일어나므로, 동기화 한 번으로 여러 요청을 반영해 쓰기 처리량을 높입니다.
+ * 각 요청의 결과(성공 또는 검증 예외)는 커밋이 끝난 뒤 요청별로 전달됩니다.
+ * 요청 스레드는 최대 library.rental.group-commit.result-timeout만큼 결과를 기다리며, 요청의 로케일은 전용 스레드에서도 그대로 사용됩니다.
+ */
+@Slf4j
+@Component
+public class RentalCommandExecutor {
+
+	private static final long IDLE_POLL_MILLIS = 100;
+
+	private final TransactionTemplate transactionTemplate;
+	private final RentalGroupCommitProperties properties;
+	private final BlockingQueue<Command<?>> queue;
+
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong batchedCommandCount = new AtomicLong();
+	private final AtomicLong fallbackBatchCount = new AtomicLong();
+	private final AtomicLong overflowCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private volatile int lastBatchSize;
+
+	private volatile boolean running;
+	private volatile Thread worker;
+
+	public RentalCommandExecutor(TransactionTemplate transactionTemplate, RentalGroupCommitProperties properties) {
+		this.transactionTemplate = transactionTemplate;
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+	}
+
+	@PostConstruct
+	void start() {
+		if (!properties.enabled()) {
+			return;
+		}
+
+		running = true;
+		worker = new Thread(this::processQueue, "rental-group-commit");
+		worker.setDaemon(true);
+		worker.start();
+		log.info("Rental group commit enabled (max batch {}, max delay {})", properties.maxBatchSize(), properties.maxDelay());
+	}
+
+	/**
+	 * 대기 중인 요청을 모두 처리한 뒤 전용 스레드를 종료합니다.
+	 */
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		if (worker != null) {
+			worker.join(TimeUnit.SECONDS.toMillis(30));
+		}
+	}
+
+	/**
+	 * 쓰기 작업을 트랜잭션 안에서 실행하고 결과를 반환합니다.
+	 * 이미 트랜잭션 안에서 호출되었거나, 그룹 커밋을 사용하지 않거나(전용 스레드가 종료된 경우 포함), 대기열이 가득 찬 경우에는
+	 * 호출한 스레드에서 바로 실행합니다.
+	 *
+	 * @param command 실행할 쓰기 작업 (검증에 실패하면 쓰기 전에 BusinessException을 던져야 함)
+	 * @return 작업 결과
+	 * @throws TransientDataAccessResourceException result-timeout 안에 결과를 받지 못한 경우
+	 *                                              (아직 실행되지 않은 요청은 취소되고, 이미 실행 중이던 요청은 커밋될 수 있음)
+	 */
+	public <T> T execute(Supplier<T> command) {
+		if (!isGroupCommitEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return transactionTemplate.execute(status -> command.get());
+		}
+
+		Command<T> queued = new Command<>(command);
+		if (!queue.offer(queued)) {
+			overflowCount.incrementAndGet();
+			return transactionTemplate.execute(status -> command.get());
+		}
+
+		try {
+			return queued.future.get(properties.resultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			queued.future.cancel(false);
+			timeoutCount.incrementAndGet();
+			throw new TransientDataAccessResourceException(
+					"Rental group commit did not complete within " + properties.resultTimeout(), e);
+		} catch (InterruptedException e) {
+			queued.future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new TransientDataAccessResourceException("Interrupted while waiting for rental group commit", e);
+		}
+	}
+
+	/**
+	 * 전용 스레드에서 대기열의 요청을 묶어 커밋합니다.
+	 * 한 묶음 처리 중 어떤 예외(Error 포함)가 나도 그 묶음의 요청만 실패시키고 다음 묶음을 계속 처리합니다.
+	 */
+	private void processQueue() {
+		List<Command<?>> batch = new ArrayList<>(properties.maxBatchSize());
+		while (running || !queue.isEmpty()) {
+			try {
+				Command<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				long deadline = System.nanoTime() + properties.maxDelay().toNanos();
+				while (batch.size() < properties.maxBatchSize()) {
+					long remaining = deadline - System.nanoTime();
+					Command<?> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+
+				commit(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+				failAll(batch, e);
+			} catch (Throwable e) {
+				log.error("Rental group commit of {} commands failed", batch.size(), e);
+				failAll(batch, e);
+			} finally {
+				batch.clear();
+			}
+		}
+
+		// 인터럽트로 종료된 경우 처리하지 못한 요청이 기다리지 않도록 실패시킵니다.
+		List<Command<?>> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		failAll(remaining, new IllegalStateException("Rental group commit stopped"));
+	}
+
+	private static void failAll(List<Command<?>> commands, Throwable cause) {
+		commands.forEach(command -> command.future.completeExceptionally(cause));
+	}
+
+	/**
+	 * 요청 묶음을 한 트랜잭션으로 실행합니다.
+	 * 검증 예외는 해당 요청의 결과로만 전달하고, 트랜잭션을 더 쓸 수 없는 예외가 나면 묶음 전체를 롤백한 뒤 요청별 트랜잭션으로 다시 실행합니다.
+	 */
+	private void commit(List<Command<?>> batch) {
+		List<Runnable> completions;
+		try {
+			completions = transactionTemplate.execute(status -> {
+				List<Runnable> results = new ArrayList<>(batch.size());
+				for (Command<?> command : batch) {
+					results.add(command.runInBatch(status));
+				}
+				return results;
+			});
+		} catch (RuntimeException e) {
+			fallbackBatchCount.incrementAndGet();
+			log.warn("Rental group commit of {} commands failed, retrying individually: {}", batch.size(), e.getMessage());
+			batch.forEach(command -> command.runAlone(transactionTemplate));
+			return;
+		}
+
+		// 커밋된 묶음은 다시 실행하지 않도록 결과 전달은 재시도 대상 밖에서 합니다.
+		completions.forEach(Runnable::run);
+		batchCount.incrementAndGet();
+		batchedCommandCount.addAndGet(batch.size());
+		lastBatchSize = batch.size();
+	}
+
+	/**
+	 * 그룹 커밋 사용 여부를 반환합니다. (전용 스레드가 살아 있을 때만 true)
+	 */
+	public boolean isGroupCommitEnabled() {
+		Thread current = worker;
+		return running && current != null && current.isAlive();
+	}
+
+	/**
+	 * 커밋한 묶음 수를 반환합니다.
+	 */
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	/**
+	 * 묶음으로 커밋한 요청 수의 합을 반환합니다.
+	 */
+	public long getBatchedCommandCount() {
+		return batchedCommandCount.get();
+	}
+
+	/**
+	 * 롤백 후 요청별 트랜잭션으로 다시 실행한 묶음 수를 반환합니다.
+	 */
+	public long getFallbackBatchCount() {
+		return fallbackBatchCount.get();
+	}
+
+	/**
+	 * 대기열이 가득 차 요청 스레드에서 바로 실행한 요청 수를 반환합니다.
+	 */
+	public long getOverflowCount() {
+		return overflowCount.get();
+	}
+
+	/**
+	 * 결과를 기다리다 시간 초과로 실패한 요청 수를 반환합니다.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * 마지막으로 커밋한 묶음의 요청 수를 반환합니다.
+	 */
+	public int getLastBatchSize() {
+		return lastBatchSize;
+	}
+
+	/**
+	 * 대기열에 들어간 쓰기 작업과 그 결과
+	 * 요청 스레드의 로케일을 함께 보관해, 전용 스레드에서 만든 오류 메시지도 요청의 언어로 만들어지게 합니다.
+	 */
+	private static final class Command<T> {
+
+		private final Supplier<T> action;
+		private final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private Command(Supplier<T> action) {
+			this.action = action;
+		}
+
+		/**
+		 * 요청 스레드의 로케일로 작업을 실행합니다.
+		 */
+		private T call() {
+			LocaleContext previous = LocaleContextHolder.getLocaleContext();
+			LocaleContextHolder.setLocaleContext(localeContext);
+			try {
+				return action.get();
+			} finally {
+				LocaleContextHolder.setLocaleContext(previous);
+			}
+		}
+
+		/**
+		 * 묶음 트랜잭션 안에서 실행하고, 커밋 후 결과를 전달할 작업을 반환합니다.
+		 * 트랜잭션이 롤백 전용으로 바뀌지 않은 검증 예외만 요청의 결과로 처리하고, 그 외 예외는 묶음 전체를 롤백시킵니다.
+		 */
+		private Runnable runInBatch(TransactionStatus status) {
+			if (future.isDone()) {
+				// 요청 스레드가 시간 초과로 포기한 요청은 실행하지 않습니다.
+				return () -> {};
+			}
+			try {
+				T result = call();
+				return () -> future.complete(result);
+			} catch (BusinessException e) {
+				if (status.isRollbackOnly()) {
+					throw e;
+				}
+				return () -> future.completeExceptionally(e);
+			}
+		}
+
+		/**
+		 * 별도 트랜잭션으로 실행하고 결과를 바로 전달합니다.
+		 */
+		private void runAlone(TransactionTemplate transactionTemplate) {
+			if (future.isDone()) {
+				return;
+			}
+			try {
+				future.complete(transactionTemplate.execute(status -> call()));
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.common.export.ExportFormat;
+import com.example.libraryapi.common.export.ExportWriter;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.dto.RentalRow;
+import com.example.libraryapi.rental.facade.RentalFacade;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 대여 이력 내보내기를 처리하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class RentalExportService {
+
+    private static final String[] CSV_HEADER = {
+        "id", "bookId", "bookTitle", "dueDate", "borrowedAt", "returnedDate", "status", "createdAt", "updatedAt"
+    };
+
+    private final RentalFacade rentalFacade;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 대여 이력을 ID 순으로 스트리밍하여 내보냅니다.
+     * 도서 제목을 조인한 DTO 프로젝션을 순방향 조회하므로 대여 건수와 관계없이 일정한 메모리로 동작합니다.
+     *
+     * @return 내보낸 대여 건수
+     */
+    @Transactional(readOnly = true)
+    public long exportRentals(OutputStream outputStream, ExportFormat format) throws IOException {
+        ExportWriter writer = new ExportWriter(outputStream, format, objectMapper);
+        writer.writeHeader(CSV_HEADER);
+
+        try (Stream<RentalRow> rows = rentalFacade.streamRentalsForExport()) {
+            Iterator<RentalRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                RentalResponseDto rental = RentalResponseDto.from(iterator.next());
+                writer.write(rental,
+                        rental.id(), rental.bookId(), rental.bookTitle(), rental.dueDate(), rental.borrowedAt(),
+                        rental.returnedDate(), rental.status(), rental.createdAt(), rental.updatedAt());
+            }
+        }
+
+        writer.finish();
+        return writer.getWritten();
+    }
+}
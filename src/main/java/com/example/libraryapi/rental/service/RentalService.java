@@ -2,8 +2,15 @@ package com.example.libraryapi.rental.service;
 
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.dto.VersionStamp;
+import com.example.libraryapi.common.util.CursorUtils;
+import com.example.libraryapi.common.web.ResourceVersion;
+import com.example.libraryapi.exception.InvalidRequestException;
+import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.rental.dto.RentalRequestDto;
 import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.dto.RentalRow;
 import com.example.libraryapi.rental.entity.Rental;
 import com.example.libraryapi.rental.entity.RentalStatus;
 import com.example.libraryapi.rental.facade.RentalFacade;
@@ -12,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -22,21 +30,34 @@ import java.util.List;
 public class RentalService {
 
     private final RentalFacade rentalFacade;
+    private final MessageUtils messageUtils;
+    private final RentalCommandExecutor rentalCommandExecutor;
 
     /**
      * 도서 대여 처리
+     * 트랜잭션은 RentalCommandExecutor가 관리합니다. (그룹 커밋 사용 시 다른 대여/반납과 함께 커밋)
      */
-    @Transactional
     public RentalResponseDto borrowBook(RentalRequestDto request) {
-        // 데이터 검증
-        rentalFacade.validateBookNotInUse(request.bookId());
-        Book book = rentalFacade.findBookById(request.bookId());
-        rentalFacade.validateBookAvailable(book);
-        
-        // 도서 상태 변경
-        rentalFacade.updateBookStatus(book, BookStatus.UNAVAILABLE);
+        return rentalCommandExecutor.execute(() -> borrow(request));
+    }
+
+    /**
+     * 도서 대여 처리 내부 메소드
+     * 도서 상태를 조건부 UPDATE로 먼저 선점하고, 선점에 실패한 경우에만 원인을 조회해 알맞은 예외를 던집니다.
+     */
+    private RentalResponseDto borrow(RentalRequestDto request) {
+        Integer bookId = request.bookId();
+
+        // 도서 선점 (대여 가능 상태일 때만 대여 불가로 변경)
+        if (!rentalFacade.claimBook(bookId)) {
+            Book book = rentalFacade.findBookById(bookId);
+            rentalFacade.validateBookNotInUse(bookId);
+            rentalFacade.validateBookAvailable(book);
+            throw rentalFacade.borrowConflict(bookId);
+        }
         
         // 대여 정보 생성 및 저장
+        Book book = rentalFacade.findBookById(bookId);
         Rental rental = createRental(book, request.dueDate());
         Rental savedRental = rentalFacade.saveRental(rental);
         
@@ -56,9 +77,16 @@ public class RentalService {
 
     /**
      * 도서 반납 처리
+     * 트랜잭션은 RentalCommandExecutor가 관리합니다. (그룹 커밋 사용 시 다른 대여/반납과 함께 커밋)
      */
-    @Transactional
     public RentalResponseDto returnBook(Integer rentalId) {
+        return rentalCommandExecutor.execute(() -> returnRental(rentalId));
+    }
+
+    /**
+     * 도서 반납 처리 내부 메소드
+     */
+    private RentalResponseDto returnRental(Integer rentalId) {
         // 대여 정보 조회 및 검증
         Rental rental = rentalFacade.findRentalById(rentalId);
         rentalFacade.validateBookNotReturned(rental);
@@ -75,11 +103,12 @@ public class RentalService {
 
     /**
      * 모든 대여 정보 조회
+     * 도서 제목을 조인한 프로젝션으로 조회하므로 대여/도서 엔티티를 불러오지 않습니다.
      */
     @Transactional(readOnly = true)
     public List<RentalResponseDto> getAllRentals() {
-        List<Rental> rentals = rentalFacade.findAllRentals();
-        return RentalResponseDto.listFrom(rentals);
+        List<RentalRow> rentals = rentalFacade.findAllRentals();
+        return RentalResponseDto.listFromRows(rentals);
     }
 
     /**
@@ -92,29 +121,72 @@ public class RentalService {
     }
 
     /**
-     * 연체된 대여 정보 조회 및 상태 업데이트
+     * 대여 정보의 조건부 GET 처리를 위한 버전(ETag, Last-Modified)을 반환합니다.
      */
-    @Transactional
-    public List<RentalResponseDto> getOverdueRentals() {
-        // 연체된 대여 정보 조회
-        List<Rental> overdueRentals = rentalFacade.findOverdueRentals();
-        
-        // 업데이트가 필요한 대여 정보 필터링
-        List<Rental> rentalsToUpdate = rentalFacade.filterRentalsForOverdueUpdate(overdueRentals);
-        
-        // 연체 상태 업데이트
-        if (!rentalsToUpdate.isEmpty()) {
-            updateOverdueStatus(rentalsToUpdate);
+    @Transactional(readOnly = true)
+    public ResourceVersion getRentalVersion(Integer id) {
+        return ResourceVersion.of("rental", id, rentalFacade.findRentalUpdatedAt(id));
+    }
+
+    /**
+     * 대여 목록의 조건부 GET 처리를 위한 버전을 반환합니다. (집계 쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getRentalsVersion() {
+        return ResourceVersion.of("rentals", rentalFacade.findRentalsVersionStamp());
+    }
+
+    /**
+     * 연체 목록의 조건부 GET 처리를 위한 버전을 반환합니다.
+     * 연체 여부는 날짜가 바뀌면 달라지므로 최종 수정일시는 최소한 오늘 0시로 올려서 계산합니다.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getOverdueRentalsVersion() {
+        VersionStamp stamp = rentalFacade.findRentalsVersionStamp();
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        if (stamp.lastModified() == null || stamp.lastModified().isBefore(startOfToday)) {
+            stamp = new VersionStamp(startOfToday, stamp.count());
         }
-        
-        return RentalResponseDto.listFrom(overdueRentals);
+        return ResourceVersion.of("rentals-overdue", stamp);
     }
-    
+
     /**
-     * 연체 상태 업데이트
+     * 연체된 대여 정보를 ID 순으로 커서 기반 페이지 조회합니다.
+     * 조회만 수행하며, 연체 상태 반영은 OverdueRentalSweeper가 주기적으로 일괄 처리합니다.
      */
-    private void updateOverdueStatus(List<Rental> rentals) {
-        rentals.forEach(Rental::updateOverdueStatus);
-        rentalFacade.saveAllRentals(rentals);
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<RentalResponseDto> getOverdueRentals(String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        int after = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<RentalRow> rentals = rentalFacade.findOverdueRentals(after, pageSize + 1);
+        boolean hasNext = rentals.size() > pageSize;
+        List<RentalRow> page = hasNext ? rentals.subList(0, pageSize) : rentals;
+        String nextCursor = hasNext ? CursorUtils.encode(page.get(page.size() - 1).id()) : null;
+
+        return CursorPageResponseDto.of(RentalResponseDto.listFromRows(page), nextCursor);
+    }
+
+    /**
+     * 반납 기한이 지난 대여 중 정보를 한 번의 UPDATE로 연체 상태로 변경합니다.
+     *
+     * @return 연체 상태로 변경된 건수
+     */
+    @Transactional
+    public int markOverdueRentals() {
+        return rentalFacade.markOverdueRentals();
+    }
+
+    /**
+     * 페이지 커서를 디코딩하는 내부 메소드
+     */
+    private int decodeCursor(String cursor) {
+        try {
+            return CursorUtils.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(
+                messageUtils.getMessageWithDefault("pagination.invalid.cursor", () -> "Invalid page cursor: " + cursor, cursor));
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+-- 인덱스 (CREATE INDEX IF NOT EXISTS만 사용)
+-- schema.sql/data.sql 실행 여부와 관계없이 시작할 때마다 실행되므로, 이전 스키마로 만든 기존 DB에도 인덱스가 추가됩니다.
+
+-- 도서당 활성 대여(BORROWED, OVERDUE)는 하나만 허용 (동시 대여 방지의 최종 안전장치)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_rentals_active_book
+    ON rentals (book_id)
+    WHERE status IN ('BORROWED', 'OVERDUE');
+
+-- 조회 인덱스 (QueryPlanChecker가 실행된 SQL이 전체 스캔하지 않는지 확인)
+-- 도서별 대여 조회: findActiveRentalByBookId, findByBook
+CREATE INDEX IF NOT EXISTS idx_rentals_book_status ON rentals (book_id, status);
+-- 상태별/연체 조회: findByStatus, findOverdueRowsAfter, markOverdue
+CREATE INDEX IF NOT EXISTS idx_rentals_status_due_date ON rentals (status, due_date);
+-- 카테고리별 도서 조회 (기본 키 (book_id, category_id)의 역방향)
+CREATE INDEX IF NOT EXISTS idx_book_categories_category_book ON book_categories (category_id, book_id);
+-- 제목/저자 검색은 부분 문자열(LIKE '%검색어%')이라 인덱스를 쓸 수 없으므로 인덱스를 두지 않음 (BookSearchIndex 참고)
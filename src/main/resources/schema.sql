@@ -4,14 +4,17 @@ DROP TABLE IF EXISTS book_categories;
 DROP TABLE IF EXISTS books;
 DROP TABLE IF EXISTS categories;
 
+-- 일시 컬럼 기본값은 sqlite-jdbc가 저장하는 형식과 같은 epoch 밀리초로 저장
+-- (문자열 CURRENT_TIMESTAMP와 섞이면 MAX(updated_at) 비교가 타입별로 나뉘어 목록 ETag가 갱신되지 않음)
+
 -- 책 테이블
 CREATE TABLE IF NOT EXISTS books (
     id INTEGER PRIMARY KEY AUTOINCREMENT,
     title VARCHAR(255) NOT NULL,
     author VARCHAR(255) NOT NULL,
     status VARCHAR(20) DEFAULT 'AVAILABLE',
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT (CAST(strftime('%s', 'now') AS INTEGER) * 1000),
+    updated_at TIMESTAMP DEFAULT (CAST(strftime('%s', 'now') AS INTEGER) * 1000)
 );
 
 -- 카테고리 테이블
@@ -36,7 +39,9 @@ CREATE TABLE IF NOT EXISTS rentals (
     due_date DATE NOT NULL,
     returned_date DATE,
     status VARCHAR(20) DEFAULT 'BORROWED',
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT (CAST(strftime('%s', 'now') AS INTEGER) * 1000),
+    updated_at TIMESTAMP DEFAULT (CAST(strftime('%s', 'now') AS INTEGER) * 1000),
     FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
-); 
\ No newline at end of file
+);
+
+-- 인덱스는 schema-indexes.sql에서 생성 (skip-if-initialized로 이 스크립트를 건너뛰는 기존 DB에도 항상 적용)
@@ -1,13 +1,29 @@
 package com.example.libraryapi;
 
 import com.example.libraryapi.book.controller.BookControllerTest;
+import com.example.libraryapi.book.search.BookSearchIndexTest;
+import com.example.libraryapi.book.service.BookBulkImportServiceTest;
+import com.example.libraryapi.book.service.BookServiceCacheTest;
+import com.example.libraryapi.book.service.BookServiceQueryCountTest;
 import com.example.libraryapi.book.service.BookServiceTest;
 import com.example.libraryapi.category.controller.CategoryControllerTest;
+import com.example.libraryapi.category.service.CategoryRegistryTest;
 import com.example.libraryapi.category.service.CategoryServiceTest;
+import com.example.libraryapi.common.db.QueryPlanCheckerTest;
+import com.example.libraryapi.common.db.SkipIfInitializedDatabaseInitializerTest;
+import com.example.libraryapi.common.db.SqliteDataSourcesTest;
+import com.example.libraryapi.common.db.StatementMetricsDataSourceTest;
+import com.example.libraryapi.common.web.RequestMetricsTest;
 import com.example.libraryapi.exception.BusinessExceptionTest;
+import com.example.libraryapi.exception.ErrorLogLimiterTest;
 import com.example.libraryapi.exception.ErrorResponseTest;
 import com.example.libraryapi.exception.GlobalExceptionHandlerTest;
+import com.example.libraryapi.exception.MessageUtilsTest;
 import com.example.libraryapi.rental.controller.RentalControllerTest;
+import com.example.libraryapi.rental.service.OverdueRentalSweeperTest;
+import com.example.libraryapi.rental.service.RentalGroupCommitTest;
+import com.example.libraryapi.rental.service.RentalServiceConcurrencyTest;
+import com.example.libraryapi.rental.service.RentalServiceQueryCountTest;
 import com.example.libraryapi.rental.service.RentalServiceTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -19,19 +35,37 @@ import org.junit.platform.suite.api.SuiteDisplayName;
         // Book Module Tests
         BookControllerTest.class,
         BookServiceTest.class,
+        BookServiceQueryCountTest.class,
+        BookServiceCacheTest.class,
+        BookSearchIndexTest.class,
+        BookBulkImportServiceTest.class,
         
         // Category Module Tests
         CategoryControllerTest.class,
         CategoryServiceTest.class,
+        CategoryRegistryTest.class,
         
         // Rental Module Tests
         RentalControllerTest.class,
         RentalServiceTest.class,
+        RentalServiceConcurrencyTest.class,
+        RentalServiceQueryCountTest.class,
+        OverdueRentalSweeperTest.class,
+        RentalGroupCommitTest.class,
+        
+        // Common Module Tests
+        QueryPlanCheckerTest.class,
+        SqliteDataSourcesTest.class,
+        SkipIfInitializedDatabaseInitializerTest.class,
+        StatementMetricsDataSourceTest.class,
+        RequestMetricsTest.class,
         
         // Exception Module Tests
         GlobalExceptionHandlerTest.class,
         BusinessExceptionTest.class,
-        ErrorResponseTest.class
+        ErrorResponseTest.class,
+        ErrorLogLimiterTest.class,
+        MessageUtilsTest.class
 })
 public class LibraryApiTestSuite {
     // 이 클래스는 JUnit 5의 테스트 스위트를 정의하는 용도로만 사용됩니다.
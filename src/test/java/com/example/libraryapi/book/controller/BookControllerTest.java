@@ -1,13 +1,20 @@
 package com.example.libraryapi.book.controller;
 
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto;
 import com.example.libraryapi.book.dto.BookCategoryUpdateDto;
 import com.example.libraryapi.book.dto.BookRequestDto;
 import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookSearchResult;
 import com.example.libraryapi.book.dto.BookStatusUpdateDto;
 import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.book.service.BookBulkImportService;
+import com.example.libraryapi.book.service.BookExportService;
 import com.example.libraryapi.book.service.BookService;
 import com.example.libraryapi.category.dto.CategoryResponseDto;
 import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.export.ExportFormat;
+import com.example.libraryapi.common.web.ResourceVersion;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.rental.repository.RentalRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 import java.util.Set;
@@ -26,6 +34,10 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +54,12 @@ public class BookControllerTest {
     @MockBean
     private BookService bookService;
 
+    @MockBean
+    private BookExportService bookExportService;
+
+    @MockBean
+    private BookBulkImportService bookBulkImportService;
+
     @MockBean
     private MessageUtils messageUtils;
 
@@ -71,6 +89,9 @@ public class BookControllerTest {
                 "J.K. 롤링",
                 Set.of(1)
         );
+
+        when(bookService.getBooksVersion()).thenReturn(new ResourceVersion("\"books-1-1\"", 1_000L));
+        when(bookService.getBookVersion(anyInt())).thenReturn(new ResourceVersion("\"book-1-1\"", 1_000L));
     }
 
     @Test
@@ -89,15 +110,59 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.categories[0].id").value(1));
     }
 
+    @Test
+    @DisplayName("도서 일괄 등록 API 테스트")
+    void importBooks() throws Exception {
+        BookBulkImportResponseDto result = new BookBulkImportResponseDto(
+                2, 1, 1, 5, 200.0,
+                List.of(new BookBulkImportResponseDto.ChunkResult(1, 1, 1, 5, 200.0)),
+                List.of(new BookBulkImportResponseDto.FailedRow(2, "카테고리를 찾을 수 없습니다. ID: 99")));
+        when(bookBulkImportService.importBooks(any())).thenReturn(result);
+
+        mockMvc.perform(post("/api/books/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(objectMapper.writeValueAsString(sampleBookRequest) + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.failedRows").value(1))
+                .andExpect(jsonPath("$.chunks[0].importedRows").value(1))
+                .andExpect(jsonPath("$.failures[0].row").value(2));
+    }
+
     @Test
     @DisplayName("전체 도서 목록 조회 API 테스트")
     void getAllBooks() throws Exception {
-        when(bookService.getAllBooks()).thenReturn(List.of(sampleBookResponse));
+        when(bookService.getAllBooks(isNull(), isNull()))
+                .thenReturn(CursorPageResponseDto.of(List.of(sampleBookResponse), "MQ"));
 
         mockMvc.perform(get("/api/books"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].title").value("해리포터와 비밀의 방"));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content[0].title").value("해리포터와 비밀의 방"))
+                .andExpect(jsonPath("$.nextCursor").value("MQ"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("도서 목록 CSV 내보내기 API 테스트")
+    void exportBooks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/books/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"books.csv\""));
+
+        verify(bookExportService).exportBooks(any(), eq(ExportFormat.CSV));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식으로 도서 목록 내보내기 시 400 응답")
+    void exportBooks_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/books/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -111,17 +176,60 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.title").value("해리포터와 비밀의 방"));
     }
 
+    @Test
+    @DisplayName("도서 조회 응답에 ETag와 Last-Modified 포함")
+    void getBookById_SetsValidators() throws Exception {
+        when(bookService.getBookById(anyInt())).thenReturn(sampleBookResponse);
+
+        mockMvc.perform(get("/api/books/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"book-1-1\""))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 본문 없이 304 응답")
+    void getBookById_NotModified() throws Exception {
+        mockMvc.perform(get("/api/books/1").header("If-None-Match", "\"book-1-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(bookService, never()).getBookById(anyInt());
+    }
+
+    @Test
+    @DisplayName("도서 목록이 변경되지 않았으면 304 응답")
+    void getAllBooks_NotModified() throws Exception {
+        mockMvc.perform(get("/api/books").header("If-None-Match", "\"books-1-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(bookService, never()).getAllBooks(any(), any());
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 전체 본문 응답")
+    void getAllBooks_Modified() throws Exception {
+        when(bookService.getAllBooks(isNull(), isNull()))
+                .thenReturn(CursorPageResponseDto.of(List.of(sampleBookResponse), null));
+
+        mockMvc.perform(get("/api/books").header("If-None-Match", "\"books-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"books-1-1\""))
+                .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+
     @Test
     @DisplayName("도서 검색 API 테스트")
     void searchBooks() throws Exception {
         when(bookService.searchBooks(anyString(), anyString(), anyString()))
-                .thenReturn(List.of(sampleBookResponse));
+                .thenReturn(new BookSearchResult(List.of(sampleBookResponse), false));
 
         mockMvc.perform(get("/api/books/search")
                 .param("author", "롤링")
                 .param("title", "해리포터")
                 .param("category", "소설"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(BookController.SEARCH_TRUNCATED_HEADER, "false"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].author").value("J.K. 롤링"));
     }
@@ -0,0 +1,111 @@
+package com.example.libraryapi.book.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class BookSearchIndexTest {
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex(null);
+        bookSearchIndex.index(1, "파이어족 강환국의 하면 되지 않는다! 퀀트 투자", "홍길동", Set.of("경제경영"));
+        bookSearchIndex.index(2, "초격자 투자", "장동혁", Set.of("경제경영"));
+        bookSearchIndex.index(3, "인공지능1-12", "장동혁", Set.of("IT"));
+        bookSearchIndex.index(4, "투자", "권태영", Set.of("경제경영"));
+    }
+
+    @Test
+    @DisplayName("한국어 부분 문자열 검색 결과를 관련도 순으로 반환")
+    void search_RanksExactThenPrefixThenContains() {
+        // When
+        List<Integer> result = bookSearchIndex.search("투자", null, null, 10);
+
+        // Then
+        assertThat(result).containsExactly(4, 2, 1);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 대소문자를 무시하고 검색")
+    void search_IgnoresWhitespaceAndCase() {
+        // Given
+        bookSearchIndex.index(5, "Clean Code", "Robert C. Martin", Set.of("IT"));
+
+        // When & Then
+        assertThat(bookSearchIndex.search("cleancode", null, null, 10)).containsExactly(5);
+        assertThat(bookSearchIndex.search(null, "robert c", null, 10)).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("제목, 저자, 카테고리 조건을 모두 만족하는 도서만 반환")
+    void search_CombinesConditions() {
+        // When & Then
+        assertThat(bookSearchIndex.search(null, "장동혁", null, 10)).containsExactly(2, 3);
+        assertThat(bookSearchIndex.search(null, "장동혁", "IT", 10)).containsExactly(3);
+        assertThat(bookSearchIndex.search("투자", "장동혁", null, 10)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("연속하지 않은 n-gram만 일치하는 도서는 제외")
+    void search_VerifiesContiguousMatch() {
+        // "투자투"의 2-gram("투자", "자투")은 모두 "초격자투자"에 있지만 연속된 문자열은 아님
+        assertThat(bookSearchIndex.search("투자투", null, null, 10)).isEmpty();
+        assertThat(bookSearchIndex.search("없는제목", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 재색인 결과 반영")
+    void index_UpdatesCategories() {
+        // When
+        bookSearchIndex.index(3, "인공지능1-12", "장동혁", Set.of("과학"));
+
+        // Then
+        assertThat(bookSearchIndex.search(null, "장동혁", "IT", 10)).isEmpty();
+        assertThat(bookSearchIndex.search(null, "장동혁", "과학", 10)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("최대 결과 수 제한")
+    void search_AppliesLimit() {
+        assertThat(bookSearchIndex.search("투자", null, null, 2)).containsExactly(4, 2);
+    }
+
+    @Test
+    @DisplayName("재구성 중에도 검색과 등록이 막히지 않고, 그 사이 등록된 도서는 새 색인에 반영")
+    void rebuild_KeepsDocumentsIndexedDuringScan() {
+        // Given: DB를 읽는 도중 다른 스레드가 도서를 등록하고 검색
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        BookSearchIndex index = new BookSearchIndex(jdbcTemplate);
+        doAnswer(invocation -> {
+            List<Integer> found = CompletableFuture.supplyAsync(() -> {
+                index.index(10, "재구성 중 등록된 도서", "홍길동", Set.of("IT"));
+                return index.search("재구성", null, null, 10);
+            }).get(5, TimeUnit.SECONDS);
+            assertThat(found).containsExactly(10);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("재구성", null, null, 10)).containsExactly(10);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto;
+import com.example.libraryapi.book.dto.BookBulkImportResponseDto.FailedRow;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 일괄 등록이 청크 단위로 저장되고, 잘못된 행만 건너뛰는지 검증합니다.
+ */
+@SpringBootTest(properties = "library.import.chunk-size=2")
+@ActiveProfiles("test")
+public class BookBulkImportServiceTest {
+
+    @Autowired
+    private BookBulkImportService bookBulkImportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private CategoryResponseDto category;
+    private String author;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        author = "일괄등록테스트-" + suffix;
+        category = categoryService.createCategory(new CategoryRequestDto("일괄등록-" + suffix));
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 등록 - 잘못된 행은 건너뛰고 나머지는 청크 단위로 등록")
+    void importBooks_Ndjson() throws Exception {
+        String body = String.join("\n",
+                record("도서 1", category.id()),
+                record("도서 2", category.id()),
+                record("도서 3", 999999),
+                "{\"title\": \"\", \"author\": \"" + author + "\", \"categoryIds\": [" + category.id() + "]}",
+                record("도서 5", category.id()),
+                "");
+
+        BookBulkImportResponseDto result = bookBulkImportService.importBooks(toStream(body));
+
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(3);
+        assertThat(result.failedRows()).isEqualTo(2);
+        assertThat(result.chunks()).hasSize(2);
+        assertThat(result.chunks().get(0).importedRows()).isEqualTo(2);
+        assertThat(result.failures()).extracting(FailedRow::row).containsExactly(3L, 4L);
+
+        List<BookResponseDto> books = bookService.searchBooks(author, null, null).books();
+        assertThat(books).extracting(BookResponseDto::title)
+                .containsExactlyInAnyOrder("도서 1", "도서 2", "도서 5");
+        assertThat(books).allSatisfy(book ->
+                assertThat(book.categories()).extracting(CategoryResponseDto::id).containsExactly(category.id()));
+    }
+
+    @Test
+    @DisplayName("JSON 배열 일괄 등록 - 값 형식 오류 행만 건너뜀")
+    void importBooks_JsonArray() throws Exception {
+        String body = "["
+                + record("도서 A", category.id()) + ","
+                + "{\"title\": \"도서 B\", \"author\": \"" + author + "\", \"categoryIds\": \"abc\"},"
+                + record("도서 C", category.id())
+                + "]";
+
+        BookBulkImportResponseDto result = bookBulkImportService.importBooks(toStream(body));
+
+        assertThat(result.totalRows()).isEqualTo(3);
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(result.failures()).extracting(FailedRow::row).containsExactly(2L);
+        assertThat(bookService.searchBooks(author, null, null).books()).extracting(BookResponseDto::title)
+                .containsExactlyInAnyOrder("도서 A", "도서 C");
+    }
+
+    @Test
+    @DisplayName("JSON 구문 오류 - 이전 행까지만 등록하고 중단")
+    void importBooks_MalformedJson() throws Exception {
+        String body = record("도서 X", category.id()) + "\n{\"title\": \"도서 Y\", \n";
+
+        BookBulkImportResponseDto result = bookBulkImportService.importBooks(toStream(body));
+
+        assertThat(result.importedRows()).isEqualTo(1);
+        assertThat(result.failures()).extracting(FailedRow::row).containsExactly(2L);
+        assertThat(bookService.searchBooks(author, null, null).books()).extracting(BookResponseDto::title)
+                .containsExactly("도서 X");
+    }
+
+    private String record(String title, Integer categoryId) {
+        return "{\"title\": \"" + title + "\", \"author\": \"" + author + "\", \"categoryIds\": [" + categoryId + "]}";
+    }
+
+    private static ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.book.dto.BookCategoryUpdateDto;
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookStatusUpdateDto;
+import com.example.libraryapi.book.entity.Book;
+import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.exception.InvalidRequestException;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.service.RentalService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도서 단건 조회가 2차 캐시에서 처리되고, 쓰기 이후에도 캐시가 DB와 일치하는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookServiceCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private CategoryResponseDto category;
+    private BookResponseDto book;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        category = categoryService.createCategory(new CategoryRequestDto("캐시-" + suffix));
+        book = bookService.createBook(new BookRequestDto("캐시 도서 " + suffix, "캐시테스트", Set.of(category.id())));
+    }
+
+    @Test
+    @DisplayName("같은 도서를 다시 조회하면 쿼리 없이 2차 캐시에서 반환")
+    void getBookById_SecondReadServedFromCache() {
+        bookService.getBookById(book.id());
+
+        statistics.clear();
+        BookResponseDto result = bookService.getBookById(book.id());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(result.categories()).extracting(CategoryResponseDto::id).containsExactly(category.id());
+    }
+
+    @Test
+    @DisplayName("상태 변경 후 조회 시 변경된 상태 반환")
+    void updateBookStatus_KeepsCacheCoherent() {
+        bookService.getBookById(book.id());
+
+        bookService.updateBookStatus(book.id(), new BookStatusUpdateDto(BookStatus.UNAVAILABLE));
+
+        assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 후 조회 시 변경된 카테고리 반환")
+    void updateBookCategories_KeepsCacheCoherent() {
+        bookService.getBookById(book.id());
+        CategoryResponseDto other = categoryService.createCategory(
+                new CategoryRequestDto("캐시-" + UUID.randomUUID().toString().substring(0, 8)));
+
+        bookService.updateBookCategories(book.id(), new BookCategoryUpdateDto(Set.of(other.id())));
+
+        assertThat(bookService.getBookById(book.id()).categories())
+                .extracting(CategoryResponseDto::id)
+                .containsExactly(other.id());
+    }
+
+    @Test
+    @DisplayName("대여/반납 후 조회 시 도서 상태가 함께 변경")
+    void borrowAndReturn_KeepCacheCoherent() {
+        bookService.getBookById(book.id());
+
+        RentalResponseDto rental = rentalService.borrowBook(new RentalRequestDto(book.id(), LocalDate.now().plusDays(7)));
+        assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.UNAVAILABLE);
+
+        rentalService.returnBook(rental.id());
+        assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("캐시에는 대여 가능, DB에는 대여 불가인 도서를 대여하면 충돌이 아닌 대여 불가 오류")
+    void borrowBook_FailurePathReadsCurrentStatus() {
+        bookService.getBookById(book.id());
+        // 캐시를 거치지 않고 DB만 변경해 캐시에 이전 상태(AVAILABLE)가 남은 상황을 만듭니다.
+        jdbcTemplate.update("UPDATE books SET status = 'UNAVAILABLE' WHERE id = ?", book.id());
+
+        assertThatThrownBy(() -> rentalService.borrowBook(new RentalRequestDto(book.id(), LocalDate.now().plusDays(7))))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("대여해도 다른 도서의 캐시 항목은 그대로 남음")
+    void borrowBook_KeepsOtherBooksCached() {
+        BookResponseDto other = bookService.createBook(new BookRequestDto("캐시 유지 도서 " + UUID.randomUUID(), "캐시테스트", Set.of(category.id())));
+        bookService.getBookById(other.id());
+        assertThat(entityManagerFactory.getCache().contains(Book.class, other.id())).isTrue();
+
+        rentalService.borrowBook(new RentalRequestDto(book.id(), LocalDate.now().plusDays(7)));
+
+        assertThat(entityManagerFactory.getCache().contains(Book.class, other.id())).isTrue();
+        statistics.clear();
+        bookService.getBookById(other.id());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
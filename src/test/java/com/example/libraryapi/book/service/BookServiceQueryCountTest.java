@@ -0,0 +1,112 @@
+package com.example.libraryapi.book.service;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로의 SQL 실행 횟수가 도서 수에 비례해 늘어나지 않는지(N+1) 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class BookServiceQueryCountTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CategoryResponseDto category;
+    private String author;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        author = "쿼리수테스트-" + suffix;
+        category = categoryService.createCategory(new CategoryRequestDto("쿼리수-" + suffix));
+    }
+
+    @Test
+    @DisplayName("도서 목록 조회 쿼리 수는 도서 수와 무관")
+    void getAllBooks_StatementCountIndependentOfBookCount() {
+        seedBooks(2);
+        long baseline = countStatements(() -> bookService.getAllBooks(null, 100));
+
+        seedBooks(20);
+        long grown = countStatements(() -> bookService.getAllBooks(null, 100));
+
+        assertThat(grown).isLessThanOrEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("도서 검색 쿼리 수는 결과 수와 무관")
+    void searchBooks_StatementCountIndependentOfResultCount() {
+        seedBooks(2);
+        long baseline = countStatements(() -> bookService.searchBooks(author, null, null));
+
+        seedBooks(20);
+        long grown = countStatements(() -> bookService.searchBooks(author, null, null));
+
+        assertThat(grown).isLessThanOrEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("카테고리별 도서 조회 쿼리 수는 도서 수와 무관")
+    void getBooksByCategory_StatementCountIndependentOfBookCount() {
+        seedBooks(2);
+        long baseline = countStatements(() -> categoryService.getBooksByCategory(category.id()));
+
+        seedBooks(20);
+        long grown = countStatements(() -> categoryService.getBooksByCategory(category.id()));
+
+        assertThat(grown).isLessThanOrEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("도서 목록/검색은 엔티티를 불러오지 않고 프로젝션으로 응답")
+    void listAndSearch_LoadNoEntities() {
+        seedBooks(5);
+
+        statistics.clear();
+        bookService.getAllBooks(null, 100);
+        bookService.searchBooks(author, null, null);
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedBooks(int count) {
+        for (int i = 0; i < count; i++) {
+            bookService.createBook(new BookRequestDto("쿼리수 도서 " + i, author, Set.of(category.id())));
+        }
+    }
+}
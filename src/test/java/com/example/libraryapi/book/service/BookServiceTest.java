@@ -2,11 +2,18 @@ package com.example.libraryapi.book.service;
 
 import com.example.libraryapi.book.dto.BookRequestDto;
 import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.dto.BookSearchResult;
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.entity.BookStatus;
 import com.example.libraryapi.book.repository.BookRepository;
+import com.example.libraryapi.book.search.BookSearchIndex;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
 import com.example.libraryapi.category.entity.Category;
 import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.category.service.CategoryRegistry;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.util.CursorUtils;
+import com.example.libraryapi.exception.InvalidRequestException;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.exception.ResourceNotFoundException;
 import com.example.libraryapi.rental.repository.RentalRepository;
@@ -17,10 +24,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +53,12 @@ public class BookServiceTest {
     @Mock
     private MessageUtils messageUtils;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
     @InjectMocks
     private BookService bookService;
 
@@ -73,7 +90,7 @@ public class BookServiceTest {
     @DisplayName("도서 생성 성공")
     void createBook_Success() {
         // Given
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(categoryRegistry.getNamesById()).thenReturn(Map.of(1, "소설"));
         when(bookRepository.save(any(Book.class))).thenReturn(mockBook);
 
         // When
@@ -83,23 +100,159 @@ public class BookServiceTest {
         assertThat(result.id()).isEqualTo(1);
         assertThat(result.title()).isEqualTo("해리포터와 비밀의 방");
         assertThat(result.author()).isEqualTo("J.K. 롤링");
-        verify(categoryRepository).findById(1);
+        assertThat(result.categories()).extracting(CategoryResponseDto::name).containsExactly("소설");
+        verify(categoryRepository, never()).findAllById(any());
         verify(bookRepository).save(any(Book.class));
     }
 
     @Test
-    @DisplayName("모든 도서 조회 성공")
+    @DisplayName("존재하지 않는 카테고리가 있으면 누락된 ID를 모두 포함하여 도서 생성 실패")
+    void createBook_CategoriesNotFound() {
+        // Given
+        BookRequestDto request = new BookRequestDto("해리포터와 비밀의 방", "J.K. 롤링", Set.of(1, 7, 9));
+        when(categoryRegistry.getNamesById()).thenReturn(Map.of(1, "소설"));
+        when(categoryRepository.findAllById(Set.of(1, 7, 9))).thenReturn(List.of(mockCategory));
+        when(messageUtils.getMessageWithDefault(eq("category.not.found"), any(Supplier.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(1).get());
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.createBook(request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("7, 9");
+
+        verify(categoryRepository).findAllById(Set.of(1, 7, 9));
+        verify(bookRepository, never()).save(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("도서 목록 첫 페이지 조회 성공")
     void getAllBooks_Success() {
         // Given
-        when(bookRepository.findAll()).thenReturn(List.of(mockBook));
+        when(bookRepository.findIdsAfter(eq(0), any(Pageable.class))).thenReturn(List.of(1));
+        when(bookRepository.findSummariesByIdIn(List.of(1))).thenReturn(List.of(summaryOf(mockBook)));
+        when(bookRepository.findCategoryRowsByBookIdIn(List.of(1)))
+                .thenReturn(List.of(new BookCategoryRow(1, mockCategory.getId(), mockCategory.getName())));
+
+        // When
+        CursorPageResponseDto<BookResponseDto> result = bookService.getAllBooks(null, null);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.content().get(0).title()).isEqualTo("해리포터와 비밀의 방");
+        assertThat(result.content().get(0).categories()).extracting(CategoryResponseDto::name).containsExactly("소설");
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(bookRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 ID로 커서 생성")
+    void getAllBooks_HasNextPage() {
+        // Given
+        when(bookRepository.findIdsAfter(eq(0), any(Pageable.class))).thenReturn(List.of(1, 2));
+        when(bookRepository.findSummariesByIdIn(List.of(1))).thenReturn(List.of(summaryOf(mockBook)));
+        when(bookRepository.findCategoryRowsByBookIdIn(List.of(1)))
+                .thenReturn(List.of(new BookCategoryRow(1, mockCategory.getId(), mockCategory.getName())));
 
         // When
-        List<BookResponseDto> result = bookService.getAllBooks();
+        CursorPageResponseDto<BookResponseDto> result = bookService.getAllBooks(null, 1);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).title()).isEqualTo("해리포터와 비밀의 방");
-        verify(bookRepository).findAll();
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(CursorUtils.decode(result.nextCursor())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 도서 목록 조회 실패")
+    void getAllBooks_InvalidCursor() {
+        // Given
+        when(messageUtils.getMessageWithDefault(anyString(), any(Supplier.class), any())).thenReturn("Invalid page cursor: !!");
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.getAllBooks("!!", 20))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verify(bookRepository, never()).findIdsAfter(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색 색인의 관련도 순서대로 검색 결과 반환")
+    void searchBooks_UsesIndexRanking() {
+        // Given
+        Book otherBook = new Book();
+        otherBook.setId(2);
+        otherBook.setTitle("해리포터와 마법사의 돌");
+        otherBook.setAuthor("J.K. 롤링");
+        otherBook.setStatus(BookStatus.AVAILABLE);
+
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search(eq("해리포터"), isNull(), isNull(), anyInt())).thenReturn(List.of(2, 1));
+        when(bookRepository.findSummariesByIdIn(List.of(2, 1))).thenReturn(List.of(summaryOf(mockBook), summaryOf(otherBook)));
+        when(bookRepository.findCategoryRowsByBookIdIn(List.of(2, 1))).thenReturn(List.of());
+
+        // When
+        BookSearchResult result = bookService.searchBooks(null, "해리포터", null);
+
+        // Then
+        assertThat(result.books()).extracting(BookResponseDto::id).containsExactly(2, 1);
+        assertThat(result.truncated()).isFalse();
+        verify(bookRepository, never()).findIdsByFilters(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("카테고리 조건만 있으면 DB에서 검색")
+    void searchBooks_CategoryOnlyFallsBackToDatabase() {
+        // Given
+        when(categoryRegistry.findIdByName("소설")).thenReturn(Optional.of(1));
+        when(bookRepository.findIdsByCategoryId(eq(1), any(Pageable.class))).thenReturn(List.of(1));
+        when(bookRepository.findSummariesByIdIn(List.of(1))).thenReturn(List.of(summaryOf(mockBook)));
+        when(bookRepository.findCategoryRowsByBookIdIn(List.of(1)))
+                .thenReturn(List.of(new BookCategoryRow(1, mockCategory.getId(), mockCategory.getName())));
+
+        // When
+        BookSearchResult result = bookService.searchBooks(null, null, "소설");
+
+        // Then
+        assertThat(result.books()).hasSize(1);
+        assertThat(result.truncated()).isFalse();
+        verify(bookSearchIndex, never()).search(any(), any(), any(), anyInt());
+        verify(bookRepository, never()).findIdsByFilters(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리로 검색하면 DB 조회 없이 빈 결과")
+    void searchBooks_UnknownCategory() {
+        // Given
+        when(categoryRegistry.findIdByName("없는카테고리")).thenReturn(Optional.empty());
+
+        // When
+        BookSearchResult result = bookService.searchBooks(null, null, "없는카테고리");
+
+        // Then
+        assertThat(result.books()).isEmpty();
+        assertThat(result.truncated()).isFalse();
+        verify(bookRepository, never()).findIdsByFilters(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색 결과가 최대 건수를 넘으면 최대 건수만 불러오고 잘린 결과로 표시")
+    void searchBooks_TruncatesAtMaxResults() {
+        // Given
+        List<Integer> rankedIds = IntStream.rangeClosed(1, BookService.MAX_SEARCH_RESULTS + 1).boxed().toList();
+        List<Integer> pageIds = rankedIds.subList(0, BookService.MAX_SEARCH_RESULTS);
+
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search(eq("도서"), isNull(), isNull(), eq(BookService.MAX_SEARCH_RESULTS + 1))).thenReturn(rankedIds);
+        when(bookRepository.findSummariesByIdIn(pageIds)).thenReturn(List.of(summaryOf(mockBook)));
+        when(bookRepository.findCategoryRowsByBookIdIn(pageIds)).thenReturn(List.of());
+
+        // When
+        BookSearchResult result = bookService.searchBooks(null, "도서", null);
+
+        // Then
+        assertThat(result.truncated()).isTrue();
+        verify(bookRepository).findSummariesByIdIn(pageIds);
     }
 
     @Test
@@ -122,7 +275,7 @@ public class BookServiceTest {
     void getBookById_NotFound() {
         // Given
         when(bookRepository.findById(999)).thenReturn(Optional.empty());
-        when(messageUtils.getMessageWithDefault(anyString(), anyString(), any())).thenReturn("Book not found. ID: 999");
+        when(messageUtils.getMessageWithDefault(anyString(), any(Supplier.class), any())).thenReturn("Book not found. ID: 999");
 
         // When & Then
         assertThatThrownBy(() -> bookService.getBookById(999))
@@ -131,4 +284,8 @@ public class BookServiceTest {
         
         verify(bookRepository).findById(999);
     }
-} 
\ No newline at end of file
+
+    private static BookSummary summaryOf(Book book) {
+        return new BookSummary(book.getId(), book.getTitle(), book.getAuthor(), book.getStatus());
+    }
+}
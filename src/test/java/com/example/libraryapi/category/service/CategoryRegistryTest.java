@@ -0,0 +1,84 @@
+package com.example.libraryapi.category.service;
+
+import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.category.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryRegistryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategoryRegistry categoryRegistry;
+
+    @Test
+    @DisplayName("최초 조회 시 한 번만 DB에서 읽고 이후에는 스냅샷 사용")
+    void findById_LoadsOnce() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "소설")));
+
+        // When
+        categoryRegistry.findById(1);
+        Map<Integer, String> first = categoryRegistry.getNamesById();
+        Map<Integer, String> second = categoryRegistry.getNamesById();
+
+        // Then
+        assertThat(first).containsEntry(1, "소설");
+        assertThat(second).isSameAs(first);
+        assertThat(categoryRegistry.getRebuildCount()).isEqualTo(1);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("ID와 이름 양방향 조회 및 적중/미적중 집계")
+    void lookups_CountHitsAndMisses() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "소설"), category(2, "과학")));
+
+        // When & Then
+        assertThat(categoryRegistry.findById(2)).get().extracting(Category::getName).isEqualTo("과학");
+        assertThat(categoryRegistry.findIdByName("소설")).contains(1);
+        assertThat(categoryRegistry.existsByName("역사")).isFalse();
+        assertThat(categoryRegistry.findById(99)).isEmpty();
+
+        assertThat(categoryRegistry.getHitCount()).isEqualTo(2);
+        assertThat(categoryRegistry.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("등록 시 DB 조회 없이 새 스냅샷으로 교체")
+    void register_CopiesSnapshotWithoutReload() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "소설")));
+        Map<Integer, String> before = categoryRegistry.getNamesById();
+
+        // When
+        categoryRegistry.registerAfterCommit(2, "과학");
+
+        // Then
+        assertThat(before).containsOnlyKeys(1);
+        assertThat(categoryRegistry.findIdByName("과학")).contains(2);
+        assertThat(categoryRegistry.findAll()).extracting(Category::getId).containsExactly(1, 2);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    private static Category category(Integer id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+}
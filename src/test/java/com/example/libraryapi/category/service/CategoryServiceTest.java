@@ -15,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +39,9 @@ public class CategoryServiceTest {
     @Mock
     private MessageUtils messageUtils;
 
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -56,8 +61,8 @@ public class CategoryServiceTest {
     @DisplayName("카테고리 생성 성공")
     void createCategory_Success() {
         // Given
-        when(categoryRepository.existsByName(anyString())).thenReturn(false);
-        when(categoryRepository.save(any(Category.class))).thenReturn(mockCategory);
+        when(categoryRegistry.existsByName(anyString())).thenReturn(false);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(mockCategory);
 
         // When
         CategoryResponseDto result = categoryService.createCategory(mockCategoryRequest);
@@ -65,31 +70,48 @@ public class CategoryServiceTest {
         // Then
         assertThat(result.id()).isEqualTo(1);
         assertThat(result.name()).isEqualTo("소설");
-        verify(categoryRepository).existsByName(anyString());
-        verify(categoryRepository).save(any(Category.class));
+        verify(categoryRegistry).existsByName(anyString());
+        verify(categoryRepository).saveAndFlush(any(Category.class));
+        verify(categoryRegistry).registerAfterCommit(1, "소설");
     }
 
     @Test
     @DisplayName("중복 카테고리명으로 생성 실패")
     void createCategory_DuplicateName() {
         // Given
-        when(categoryRepository.existsByName(anyString())).thenReturn(true);
-        when(messageUtils.getMessageWithDefault(anyString(), anyString(), any())).thenReturn("Category name already exists: 소설");
+        when(categoryRegistry.existsByName(anyString())).thenReturn(true);
+        when(messageUtils.getMessageWithDefault(anyString(), any(Supplier.class), any())).thenReturn("Category name already exists: 소설");
 
         // When & Then
         assertThatThrownBy(() -> categoryService.createCategory(mockCategoryRequest))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("소설");
         
-        verify(categoryRepository).existsByName(anyString());
-        verify(categoryRepository, never()).save(any(Category.class));
+        verify(categoryRegistry).existsByName(anyString());
+        verify(categoryRepository, never()).saveAndFlush(any(Category.class));
+    }
+
+    @Test
+    @DisplayName("동시에 생성된 중복 카테고리명은 DB 유니크 제약으로 실패")
+    void createCategory_ConcurrentDuplicateName() {
+        // Given
+        when(categoryRegistry.existsByName(anyString())).thenReturn(false);
+        when(categoryRepository.saveAndFlush(any(Category.class)))
+                .thenThrow(new DataIntegrityViolationException("UNIQUE constraint failed: categories.name"));
+        when(messageUtils.getMessageWithDefault(anyString(), any(Supplier.class), any())).thenReturn("Category name already exists: 소설");
+
+        // When & Then
+        assertThatThrownBy(() -> categoryService.createCategory(mockCategoryRequest))
+                .isInstanceOf(DuplicateResourceException.class);
+
+        verify(categoryRegistry, never()).registerAfterCommit(any(), any());
     }
 
     @Test
     @DisplayName("모든 카테고리 조회 성공")
     void getAllCategories_Success() {
         // Given
-        when(categoryRepository.findAll()).thenReturn(List.of(mockCategory));
+        when(categoryRegistry.findAll()).thenReturn(List.of(mockCategory));
 
         // When
         List<CategoryResponseDto> result = categoryService.getAllCategories();
@@ -97,14 +119,14 @@ public class CategoryServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).name()).isEqualTo("소설");
-        verify(categoryRepository).findAll();
+        verify(categoryRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("카테고리 ID로 조회 성공")
     void getCategoryById_Success() {
         // Given
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(categoryRegistry.findById(1)).thenReturn(Optional.of(mockCategory));
 
         // When
         CategoryResponseDto result = categoryService.getCategoryById(1);
@@ -112,21 +134,21 @@ public class CategoryServiceTest {
         // Then
         assertThat(result.id()).isEqualTo(1);
         assertThat(result.name()).isEqualTo("소설");
-        verify(categoryRepository).findById(1);
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("존재하지 않는 카테고리 ID로 조회 실패")
     void getCategoryById_NotFound() {
         // Given
-        when(categoryRepository.findById(999)).thenReturn(Optional.empty());
-        when(messageUtils.getMessageWithDefault(anyString(), anyString(), any())).thenReturn("Category not found. ID: 999");
+        when(categoryRegistry.findById(999)).thenReturn(Optional.empty());
+        when(messageUtils.getMessageWithDefault(anyString(), any(Supplier.class), any())).thenReturn("Category not found. ID: 999");
 
         // When & Then
         assertThatThrownBy(() -> categoryService.getCategoryById(999))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("999");
         
-        verify(categoryRepository).findById(999);
+        verify(categoryRegistry).findById(999);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.example.libraryapi.common.db;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.entity.Book;
+import com.example.libraryapi.book.repository.BookRepository;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.rental.entity.RentalStatus;
+import com.example.libraryapi.rental.repository.RentalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 저장소 쿼리 메서드를 실행한 뒤, Hibernate가 실행한 SQL이 schema-indexes.sql의 인덱스로 전체 스캔 없이 실행되는지 검증합니다.
+ * 저장소에 쿼리 메서드를 추가하면 아래 목록에도 추가해야 테스트가 통과합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QueryPlanCheckerTest {
+
+    @Autowired
+    private QueryPlanChecker queryPlanChecker;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("모든 저장소 쿼리 메서드의 실행 계획에 전체 스캔이 없음")
+    void checkAll_EveryRepositoryQueryUsesIndexes() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        CategoryResponseDto categoryDto = categoryService.createCategory(new CategoryRequestDto("실행계획-" + suffix));
+        BookResponseDto bookDto = bookService.createBook(new BookRequestDto("실행계획 도서 " + suffix, "실행계획", Set.of(categoryDto.id())));
+        List<Integer> ids = List.of(bookDto.id(), bookDto.id() + 1, bookDto.id() + 2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category category = categoryRepository.findById(categoryDto.id()).orElseThrow();
+            Book book = bookRepository.findById(bookDto.id()).orElseThrow();
+
+            Map<String, Runnable> queries = new LinkedHashMap<>();
+            queries.put("BookRepository.findByCategories", () -> bookRepository.findByCategories(category));
+            queries.put("BookRepository.findIdsByCategoryId", () -> bookRepository.findIdsByCategoryId(category.getId(), PageRequest.ofSize(20)));
+            queries.put("BookRepository.findIdsByFilters", () -> bookRepository.findIdsByFilters(category.getId(), "실행", "계획", PageRequest.ofSize(20)));
+            queries.put("BookRepository.findIdsAfter", () -> bookRepository.findIdsAfter(0, PageRequest.ofSize(20)));
+            queries.put("BookRepository.findSummariesByIdIn", () -> bookRepository.findSummariesByIdIn(ids));
+            queries.put("BookRepository.findCategoryRowsByBookIdIn", () -> bookRepository.findCategoryRowsByBookIdIn(ids));
+            queries.put("BookRepository.streamAllForExport", () -> {
+                try (Stream<?> rows = bookRepository.streamAllForExport()) {
+                    rows.findFirst();
+                }
+            });
+            queries.put("BookRepository.findVersionStamp", bookRepository::findVersionStamp);
+            queries.put("CategoryRepository.findByName", () -> categoryRepository.findByName(category.getName()));
+            queries.put("CategoryRepository.existsByName", () -> categoryRepository.existsByName(category.getName()));
+            queries.put("RentalRepository.findByStatus", () -> rentalRepository.findByStatus(RentalStatus.BORROWED));
+            queries.put("RentalRepository.findByBook", () -> rentalRepository.findByBook(book));
+            queries.put("RentalRepository.findActiveRentalByBookId", () -> rentalRepository.findActiveRentalByBookId(book.getId()));
+            queries.put("RentalRepository.findWithBookById", () -> rentalRepository.findWithBookById(1));
+            queries.put("RentalRepository.findAllRows", rentalRepository::findAllRows);
+            queries.put("RentalRepository.findOverdueRowsAfter", () -> rentalRepository.findOverdueRowsAfter(LocalDate.now(), 0, PageRequest.ofSize(20)));
+            queries.put("RentalRepository.markOverdue", () -> rentalRepository.markOverdue(LocalDate.now(), LocalDateTime.now()));
+            queries.put("RentalRepository.streamAllForExport", () -> {
+                try (Stream<?> rows = rentalRepository.streamAllForExport()) {
+                    rows.findFirst();
+                }
+            });
+            queries.put("RentalRepository.findUpdatedAtById", () -> rentalRepository.findUpdatedAtById(1));
+            queries.put("RentalRepository.findVersionStamp", rentalRepository::findVersionStamp);
+
+            assertThat(queries.keySet()).containsExactlyInAnyOrderElementsOf(
+                    declaredQueryMethods(BookRepository.class, CategoryRepository.class, RentalRepository.class));
+            queries.values().forEach(Runnable::run);
+            status.setRollbackOnly();
+        });
+
+        assertThat(queryPlanChecker.checkAll()).isEmpty();
+    }
+
+    private static List<String> declaredQueryMethods(Class<?>... repositories) {
+        return Arrays.stream(repositories)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .distinct()
+                .toList();
+    }
+}
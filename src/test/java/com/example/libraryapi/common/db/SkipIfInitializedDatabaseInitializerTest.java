@@ -0,0 +1,108 @@
+package com.example.libraryapi.common.db;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SkipIfInitializedDatabaseInitializer가 테이블이 이미 있는 DB에서는 스크립트를 건너뛰고,
+ * 설정을 끄거나 DB가 비어 있으면 기본 초기화기처럼 스크립트를 실행하며, 인덱스 스크립트는 항상 실행하는지 검증합니다.
+ */
+class SkipIfInitializedDatabaseInitializerTest {
+
+	private static final List<String> INDEX_LOCATIONS = List.of("classpath:schema-indexes.sql");
+
+	@TempDir
+	Path tempDir;
+
+	private SQLiteDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private SqlInitializationProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new SQLiteDataSource();
+		dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("init.db"));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		properties = new SqlInitializationProperties();
+		properties.setMode(DatabaseInitializationMode.ALWAYS);
+		properties.setSchemaLocations(List.of("classpath:schema.sql"));
+		properties.setDataLocations(List.of("classpath:data.sql"));
+	}
+
+	@Test
+	@DisplayName("빈 DB에서는 설정과 관계없이 스키마와 샘플 데이터를 생성")
+	void emptyDatabase_RunsScripts() {
+		boolean initialized = new SkipIfInitializedDatabaseInitializer(dataSource, properties, true, INDEX_LOCATIONS).initializeDatabase();
+
+		assertThat(initialized).isTrue();
+		assertThat(bookCount()).isPositive();
+	}
+
+	@Test
+	@DisplayName("테이블이 이미 있으면 스크립트를 건너뛰어 기존 데이터 유지")
+	void initializedDatabase_SkipsScripts() {
+		new SkipIfInitializedDatabaseInitializer(dataSource, properties, true, INDEX_LOCATIONS).initializeDatabase();
+		jdbcTemplate.update("INSERT INTO books (title, author, status) VALUES ('유지될 도서', '초기화테스트', 'AVAILABLE')");
+		int before = bookCount();
+
+		boolean initialized = new SkipIfInitializedDatabaseInitializer(dataSource, properties, true, INDEX_LOCATIONS).initializeDatabase();
+
+		assertThat(initialized).isFalse();
+		assertThat(bookCount()).isEqualTo(before);
+	}
+
+	@Test
+	@DisplayName("설정이 꺼져 있으면 기존 DB도 다시 초기화")
+	void skipDisabled_RunsScriptsAgain() {
+		new SkipIfInitializedDatabaseInitializer(dataSource, properties, false, INDEX_LOCATIONS).initializeDatabase();
+		int sampleBooks = bookCount();
+		jdbcTemplate.update("INSERT INTO books (title, author, status) VALUES ('삭제될 도서', '초기화테스트', 'AVAILABLE')");
+
+		boolean initialized = new SkipIfInitializedDatabaseInitializer(dataSource, properties, false, INDEX_LOCATIONS).initializeDatabase();
+
+		assertThat(initialized).isTrue();
+		assertThat(bookCount()).isEqualTo(sampleBooks);
+	}
+
+	@Test
+	@DisplayName("인덱스가 없던 이전 스키마의 DB도 스크립트를 건너뛰면서 인덱스는 추가")
+	void baselineDatabase_GetsIndexesWithoutReinitializing() {
+		// 인덱스가 추가되기 전의 schema.sql로 만든 DB
+		jdbcTemplate.execute("CREATE TABLE books (id INTEGER PRIMARY KEY AUTOINCREMENT, title VARCHAR(255) NOT NULL, "
+				+ "author VARCHAR(255) NOT NULL, status VARCHAR(20) DEFAULT 'AVAILABLE', "
+				+ "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+		jdbcTemplate.execute("CREATE TABLE categories (id INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR(50) NOT NULL UNIQUE)");
+		jdbcTemplate.execute("CREATE TABLE book_categories (book_id INTEGER, category_id INTEGER, PRIMARY KEY (book_id, category_id), "
+				+ "FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE, "
+				+ "FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE)");
+		jdbcTemplate.execute("CREATE TABLE rentals (id INTEGER PRIMARY KEY AUTOINCREMENT, book_id INTEGER NOT NULL, "
+				+ "due_date DATE NOT NULL, returned_date DATE, status VARCHAR(20) DEFAULT 'BORROWED', "
+				+ "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+				+ "FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE)");
+		jdbcTemplate.update("INSERT INTO books (title, author, status) VALUES ('기존 도서', '초기화테스트', 'AVAILABLE')");
+
+		boolean initialized = new SkipIfInitializedDatabaseInitializer(dataSource, properties, true, INDEX_LOCATIONS).initializeDatabase();
+
+		assertThat(initialized).isFalse();
+		assertThat(bookCount()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForList("SELECT name FROM sqlite_master WHERE type = 'index'", String.class))
+				.contains("ux_rentals_active_book", "idx_rentals_book_status",
+						"idx_rentals_status_due_date", "idx_book_categories_category_book");
+	}
+
+	private int bookCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Integer.class);
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.libraryapi.common.db;
+
+import com.example.libraryapi.book.search.BookSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLite 전용 DataSource가 WAL 모드로 열리고, 트랜잭션의 읽기 전용 여부에 따라 읽기 풀/쓰기 커넥션으로 나뉘는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SqliteDataSourcesTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private WriteQueueDataSource sqliteWriteQueue;
+
+	@Autowired
+	private BookSearchIndex bookSearchIndex;
+
+	@Test
+	@DisplayName("DB 파일이 WAL 모드로 열림")
+	void journalMode_IsWal() {
+		String journalMode = jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class);
+
+		assertThat(journalMode).isEqualToIgnoringCase("wal");
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 query_only 읽기 커넥션 사용")
+	void readOnlyTransaction_UsesReadPool() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		long acquiredBefore = sqliteWriteQueue.getAcquiredCount();
+
+		Integer queryOnly = readOnly.execute(status -> jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+
+		assertThat(queryOnly).isEqualTo(1);
+		assertThat(sqliteWriteQueue.getAcquiredCount()).isEqualTo(acquiredBefore);
+	}
+
+	@Test
+	@DisplayName("쓰기 트랜잭션은 쓰기 대기열을 거쳐 쓰기 커넥션 사용")
+	void writeTransaction_UsesWriteQueue() {
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+		long acquiredBefore = sqliteWriteQueue.getAcquiredCount();
+
+		Integer queryOnly = readWrite.execute(status -> jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+
+		assertThat(queryOnly).isZero();
+		assertThat(sqliteWriteQueue.getAcquiredCount()).isGreaterThan(acquiredBefore);
+	}
+
+	@Test
+	@DisplayName("검색 색인 재구성은 쓰기 커넥션 없이 읽기 커넥션 사용")
+	void searchIndexRebuild_UsesReadPool() {
+		long acquiredBefore = sqliteWriteQueue.getAcquiredCount();
+
+		bookSearchIndex.rebuild();
+
+		assertThat(bookSearchIndex.isReady()).isTrue();
+		assertThat(sqliteWriteQueue.getAcquiredCount()).isEqualTo(acquiredBefore);
+	}
+}
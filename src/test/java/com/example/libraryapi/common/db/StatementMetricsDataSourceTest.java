@@ -0,0 +1,61 @@
+package com.example.libraryapi.common.db;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StatementMetricsDataSource가 실행한 SQL 문 수와 느린 SQL 수를 세는지 검증합니다.
+ */
+class StatementMetricsDataSourceTest {
+
+	private static SQLiteDataSource memoryDataSource() {
+		SQLiteDataSource dataSource = new SQLiteDataSource();
+		dataSource.setUrl("jdbc:sqlite::memory:");
+		return dataSource;
+	}
+
+	@Test
+	@DisplayName("Statement와 PreparedStatement 실행을 모두 집계하고 스레드별 수를 초기화")
+	void execute_CountsStatements() throws Exception {
+		StatementMetricsDataSource dataSource = new StatementMetricsDataSource(memoryDataSource(), Duration.ofMinutes(1), 1.0);
+		StatementMetricsDataSource.resetCurrentThreadStatementCount();
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY)");
+			}
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t (id) VALUES (?)")) {
+				statement.setInt(1, 1);
+				statement.executeUpdate();
+			}
+		}
+
+		assertThat(dataSource.getStatementCount()).isEqualTo(2);
+		assertThat(dataSource.getSlowStatementCount()).isZero();
+		assertThat(StatementMetricsDataSource.currentThreadStatementCount()).isEqualTo(2);
+
+		StatementMetricsDataSource.resetCurrentThreadStatementCount();
+		assertThat(StatementMetricsDataSource.currentThreadStatementCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("기준 시간 이상 걸린 SQL을 느린 SQL로 집계")
+	void execute_CountsSlowStatements() throws Exception {
+		StatementMetricsDataSource dataSource = new StatementMetricsDataSource(memoryDataSource(), Duration.ZERO, 0.0);
+
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+			statement.executeQuery().close();
+		}
+
+		assertThat(dataSource.getSlowStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.libraryapi.common.web;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.config.SecondLevelCacheConfig;
+import com.example.libraryapi.rental.service.OverdueRentalSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 처리 후 컨트롤러/리포지토리 타이머와 요청당 SQL 문 수가 기록되고, 애플리케이션 지표와 함께 Prometheus 형식으로 노출되는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class RequestMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private OverdueRentalSweeper overdueRentalSweeper;
+
+    @Test
+    @DisplayName("도서 조회 요청 후 요청/리포지토리/SQL 문 수 메트릭 기록")
+    void getBook_RecordsMetrics() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        CategoryResponseDto category = categoryService.createCategory(new CategoryRequestDto("메트릭-" + suffix));
+        BookResponseDto book = bookService.createBook(new BookRequestDto("메트릭 도서 " + suffix, "메트릭테스트", Set.of(category.id())));
+
+        mockMvc.perform(get("/api/books/{id}", book.id()))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("http.server.requests").tag("uri", "/api/books/{id}").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isPositive());
+        assertThat(meterRegistry.find(RequestStatementMetricsFilter.METRIC_NAME).tag("uri", "/api/books/{id}").summary())
+                .isNotNull()
+                .satisfies(summary -> assertThat(summary.count()).isPositive());
+        assertThat(meterRegistry.find("spring.data.repository.invocations").tag("repository", "BookRepository").timer())
+                .isNotNull();
+        assertThat(meterRegistry.find("library.jdbc.statements").functionCounter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isPositive());
+
+        assertThat(prometheusMeterRegistry.scrape())
+                .contains("http_server_requests_seconds_count")
+                .contains("library_http_server_requests_statements_count")
+                .contains("spring_data_repository_invocations_seconds_count")
+                .contains("hikaricp_connections_acquire_seconds_count");
+    }
+
+    @Test
+    @DisplayName("연체 스위퍼와 카테고리 레지스트리 메트릭 노출")
+    void scrape_ExportsSweeperAndCategoryRegistryMetrics() {
+        overdueRentalSweeper.sweep();
+
+        assertThat(meterRegistry.find("library.rental.overdue-sweep.runs").functionCounter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isPositive());
+        assertThat(meterRegistry.find("library.category.registry.rebuilds").functionCounter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isPositive());
+
+        assertThat(prometheusMeterRegistry.scrape())
+                .contains("library_rental_overdue_sweep_runs_total")
+                .contains("library_rental_overdue_sweep_failures_total")
+                .contains("library_rental_overdue_sweep_swept_total")
+                .contains("library_rental_overdue_sweep_last_swept")
+                .contains("library_rental_overdue_sweep_last_duration_seconds")
+                .contains("library_category_registry_hits_total")
+                .contains("library_category_registry_misses_total");
+    }
+
+    @Test
+    @DisplayName("2차 캐시 리전별 메트릭 노출")
+    void scrape_ExportsSecondLevelCacheMetrics() {
+        for (String region : List.of(SecondLevelCacheConfig.BOOK_REGION, SecondLevelCacheConfig.CATEGORY_REGION,
+                SecondLevelCacheConfig.BOOK_CATEGORIES_REGION)) {
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).tag("result", "hit").functionCounter())
+                    .as(region)
+                    .isNotNull();
+        }
+
+        assertThat(prometheusMeterRegistry.scrape())
+                .contains("cache_gets_total{cache=\"library.book\"")
+                .contains("cache_puts_total");
+    }
+}
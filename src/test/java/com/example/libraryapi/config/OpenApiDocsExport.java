@@ -0,0 +1,60 @@
+package com.example.libraryapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * springdoc이 만든 OpenAPI 문서를 파일로 저장합니다. (./gradlew generateOpenApiDocs)
+ * -Plean 빌드는 springdoc 없이 이 파일을 static/openapi.json으로 jar에 포함해 정적 리소스로 제공합니다.
+ * 기본 test 작업에서는 제외되며, 저장 경로는 시스템 속성 openapi.output으로 받습니다.
+ */
+@Tag("openapi")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class OpenApiDocsExport {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("OpenAPI 문서를 openapi.output 경로에 저장")
+	void exportOpenApiDocs() throws Exception {
+		String output = System.getProperty("openapi.output");
+		assertThat(output).as("openapi.output system property").isNotBlank();
+
+		String body = mockMvc.perform(get("/api-docs"))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+
+		// 요청 주소로 채워지는 servers(http://localhost)는 배포 환경과 다르므로 빼고 상대 경로로 사용하게 합니다.
+		ObjectNode docs = (ObjectNode) objectMapper.readTree(body);
+		docs.remove("servers");
+		assertThat(docs.path("paths").has("/api/books")).isTrue();
+
+		Path file = Path.of(output);
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), docs);
+	}
+}
@@ -134,4 +134,22 @@ public class BusinessExceptionTest {
         assertThat(exceptionWithCause.getCause()).isEqualTo(cause);
         assertThat(exceptionWithCause.getStatus()).isEqualTo(HttpStatus.CONFLICT);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("비즈니스 예외는 기본적으로 스택 트레이스를 채우지 않고 원인 예외는 유지")
+    void testBusinessExceptionIsStacklessByDefault() {
+        // given
+        Throwable cause = new RuntimeException("원인 예외");
+
+        // when
+        ResourceNotFoundException exception = new ResourceNotFoundException("도서를 찾을 수 없습니다. ID: 1");
+        ResourceInUseException exceptionWithCause = new ResourceInUseException("이미 대여 중인 도서입니다", cause);
+
+        // then
+        assertThat(BusinessException.STACK_TRACE_ENABLED).isFalse();
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exceptionWithCause.getStackTrace()).isEmpty();
+        assertThat(exceptionWithCause.getCause()).isSameAs(cause);
+        assertThat(cause.getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.libraryapi.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorLogLimiterTest {
+
+    @Test
+    @DisplayName("1초 창마다 허용 건수까지만 로그를 허용하고, 생략된 건수를 다음 허용 시 반환")
+    void tryAcquire_LimitsPerWindowAndReportsSuppressed() {
+        // given
+        AtomicLong now = new AtomicLong();
+        ErrorLogLimiter limiter = new ErrorLogLimiter(2, now::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(ErrorLogLimiter.SUPPRESSED);
+        assertThat(limiter.tryAcquire()).isEqualTo(ErrorLogLimiter.SUPPRESSED);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(ErrorLogLimiter.SUPPRESSED);
+    }
+}
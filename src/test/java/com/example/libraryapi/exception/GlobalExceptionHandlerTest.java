@@ -9,6 +9,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -21,6 +23,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -138,4 +142,56 @@ public class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getErrorCode()).isEqualTo("E999");
         assertThat(response.getBody().getMessage()).isEqualTo("서버 내부 오류가 발생했습니다");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testGenericException_MessageResolvedOncePerLocale() {
+        // Given
+        when(messageUtils.getMessageWithDefault(eq("error.E999"), anyString())).thenReturn("서버 내부 오류가 발생했습니다");
+
+        // When
+        globalExceptionHandler.handleGenericException(new Exception("첫 번째"), webRequest);
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleGenericException(new Exception("두 번째"), webRequest);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("서버 내부 오류가 발생했습니다");
+        assertThat(response.getBody().getPath()).isEqualTo("/test/path");
+        verify(messageUtils, times(1)).getMessageWithDefault(eq("error.E999"), anyString());
+    }
+
+    @Test
+    void testEnumParseException() {
+        // Given
+        when(messageUtils.getMessageWithDefault(eq("error.E006"), anyString())).thenReturn("잘못된 JSON 형식입니다");
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException(
+                "JSON parse error: Cannot deserialize value of type `com.example.libraryapi.book.entity.BookStatus` "
+                        + "from String \"LOST\": not one of the values accepted for Enum class: [AVAILABLE, UNAVAILABLE]",
+                new MockHttpInputMessage(new byte[0]));
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleHttpMessageNotReadable(exception, webRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getErrorCode()).isEqualTo("E006");
+        assertThat(response.getBody().getMessage())
+                .isEqualTo("유효하지 않은 BookStatus 값입니다: 'LOST'. 허용된 값: AVAILABLE, UNAVAILABLE");
+    }
+
+    @Test
+    void testMalformedJson() {
+        // Given
+        when(messageUtils.getMessageWithDefault(eq("error.E006"), anyString())).thenReturn("잘못된 JSON 형식입니다");
+        HttpMessageNotReadableException exception =
+                new HttpMessageNotReadableException("JSON parse error", new MockHttpInputMessage(new byte[0]));
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleHttpMessageNotReadable(exception, webRequest);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("잘못된 JSON 형식입니다");
+        assertThat(response.getBody().getTimestamp()).isNotNull();
+    }
+}
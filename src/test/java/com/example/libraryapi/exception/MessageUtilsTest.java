@@ -0,0 +1,74 @@
+package com.example.libraryapi.exception;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MessageUtils가 컴파일된 패턴으로 MessageSource(MessageFormat)와 같은 결과를 만드는지 검증합니다.
+ */
+public class MessageUtilsTest {
+
+    private static final Locale KO = new Locale("ko");
+
+    private StaticMessageSource messageSource;
+    private MessageUtils messageUtils;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = new StaticMessageSource();
+        messageSource.addMessage("book.not.found", KO, "도서를 찾을 수 없습니다. ID: {0}");
+        messageSource.addMessage("two.args", KO, "{1} 다음 {0}, 없는 인자 {2}");
+        messageSource.addMessage("quoted", KO, "'{0}' 그대로, 인자 {0}");
+        messageSource.addMessage("no.args", KO, "인자 없음 '{0}'");
+        messageUtils = new MessageUtils(messageSource);
+    }
+
+    @Test
+    @DisplayName("인덱스 자리표시자 패턴은 MessageSource와 같은 결과")
+    void getMessage_MatchesMessageSource() {
+        for (Object[] args : new Object[][] {{1}, {12345}, {-7}, {"문자열"}, {null}, {2.5}}) {
+            assertThat(messageUtils.getMessage("book.not.found", KO, args))
+                    .isEqualTo(messageSource.getMessage("book.not.found", args, KO));
+        }
+        assertThat(messageUtils.getMessage("two.args", KO, "a", "b"))
+                .isEqualTo(messageSource.getMessage("two.args", new Object[] {"a", "b"}, KO));
+        assertThat(messageUtils.getMessage("quoted", KO, "x"))
+                .isEqualTo(messageSource.getMessage("quoted", new Object[] {"x"}, KO));
+        assertThat(messageUtils.getMessage("no.args", KO))
+                .isEqualTo(messageSource.getMessage("no.args", null, KO));
+    }
+
+    @Test
+    @DisplayName("메시지가 있으면 기본 메시지 공급자를 호출하지 않음")
+    void getMessageWithDefault_SupplierOnlyCalledWhenMissing() {
+        AtomicInteger calls = new AtomicInteger();
+        LocaleContextHolder.setLocale(KO);
+        try {
+            String found = messageUtils.getMessageWithDefault("book.not.found", () -> "Book not found. ID: " + calls.incrementAndGet(), 1);
+            String missing = messageUtils.getMessageWithDefault("missing.code", () -> "기본 " + calls.incrementAndGet());
+
+            assertThat(found).isEqualTo("도서를 찾을 수 없습니다. ID: 1");
+            assertThat(missing).isEqualTo("기본 1");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    @DisplayName("없는 코드는 NoSuchMessageException")
+    void getMessage_MissingCodeThrows() {
+        assertThatThrownBy(() -> messageUtils.getMessage("missing.code", KO))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+}
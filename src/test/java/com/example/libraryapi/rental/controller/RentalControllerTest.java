@@ -2,12 +2,15 @@ package com.example.libraryapi.rental.controller;
 
 import com.example.libraryapi.book.repository.BookRepository;
 import com.example.libraryapi.category.repository.CategoryRepository;
+import com.example.libraryapi.common.export.ExportFormat;
+import com.example.libraryapi.common.web.ResourceVersion;
 import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.rental.dto.RentalRequestDto;
 import com.example.libraryapi.rental.dto.RentalResponseDto;
 import com.example.libraryapi.rental.entity.RentalStatus;
 import com.example.libraryapi.rental.facade.RentalFacade;
 import com.example.libraryapi.rental.repository.RentalRepository;
+import com.example.libraryapi.rental.service.RentalExportService;
 import com.example.libraryapi.rental.service.RentalService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,6 +29,9 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +48,9 @@ public class RentalControllerTest {
     @MockBean
     private RentalService rentalService;
 
+    @MockBean
+    private RentalExportService rentalExportService;
+
     @MockBean
     private MessageUtils messageUtils;
 
@@ -69,11 +79,14 @@ public class RentalControllerTest {
                 "해리포터와 비밀의 방",               // bookTitle
                 LocalDate.now().plusDays(14),   // dueDate
                 LocalDateTime.now(),            // borrowedAt
-                null,                           // returnedAt
+                null,                           // returnedDate
                 RentalStatus.BORROWED,          // status
                 LocalDateTime.now(),            // createdAt
                 LocalDateTime.now()             // updatedAt
         );
+
+        when(rentalService.getRentalsVersion()).thenReturn(new ResourceVersion("\"rentals-1-1\"", 1_000L));
+        when(rentalService.getRentalVersion(anyInt())).thenReturn(new ResourceVersion("\"rental-1-1\"", 1_000L));
     }
 
     @Test
@@ -103,7 +116,7 @@ public class RentalControllerTest {
                 "해리포터와 비밀의 방",               // bookTitle
                 LocalDate.now().plusDays(14),   // dueDate
                 LocalDateTime.now(),            // borrowedAt
-                LocalDateTime.now(),            // returnedAt
+                LocalDate.now(),                // returnedDate
                 RentalStatus.RETURNED,          // status
                 LocalDateTime.now(),            // createdAt
                 LocalDateTime.now()             // updatedAt
@@ -139,4 +152,38 @@ public class RentalControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.bookTitle").value("해리포터와 비밀의 방"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("대여 정보가 변경되지 않았으면 본문 없이 304 응답")
+    void getRentalById_NotModified() throws Exception {
+        mockMvc.perform(get("/api/rentals/1").header("If-None-Match", "\"rental-1-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"rental-1-1\""));
+
+        verify(rentalService, never()).getRentalById(anyInt());
+    }
+
+    @Test
+    @DisplayName("대여 목록이 변경되지 않았으면 304 응답")
+    void getAllRentals_NotModified() throws Exception {
+        mockMvc.perform(get("/api/rentals").header("If-None-Match", "\"rentals-1-1\""))
+                .andExpect(status().isNotModified());
+
+        verify(rentalService, never()).getAllRentals();
+    }
+
+    @Test
+    @DisplayName("대여 이력 NDJSON 내보내기 API 테스트")
+    void exportRentals() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/rentals/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"rentals.ndjson\""));
+
+        verify(rentalExportService).exportRentals(any(), eq(ExportFormat.NDJSON));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.entity.RentalStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연체 스위퍼가 한 번의 UPDATE로 기한이 지난 대여만 연체 상태로 바꾸는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class OverdueRentalSweeperTest {
+
+    @Autowired
+    private OverdueRentalSweeper overdueRentalSweeper;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("반납 기한이 지난 대여만 연체로 변경하고 실행 지표 기록")
+    void sweep_MarksOnlyPastDueRentals() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        CategoryResponseDto category = categoryService.createCategory(new CategoryRequestDto("연체-" + suffix));
+        RentalResponseDto pastDue = borrow(category, suffix, LocalDate.now().minusDays(1));
+        RentalResponseDto notDue = borrow(category, suffix, LocalDate.now().plusDays(7));
+        long runsBefore = overdueRentalSweeper.getRunCount();
+
+        int swept = overdueRentalSweeper.sweep();
+
+        assertThat(swept).isPositive();
+        assertThat(rentalService.getRentalById(pastDue.id()).status()).isEqualTo(RentalStatus.OVERDUE);
+        assertThat(rentalService.getRentalById(notDue.id()).status()).isEqualTo(RentalStatus.BORROWED);
+        assertThat(overdueRentalSweeper.getRunCount()).isEqualTo(runsBefore + 1);
+        assertThat(overdueRentalSweeper.getLastSweptCount()).isEqualTo(swept);
+        assertThat(overdueRentalSweeper.getLastRunAt()).isNotNull();
+
+        // 이미 연체로 바뀐 대여는 다시 변경하지 않음
+        assertThat(overdueRentalSweeper.sweep()).isZero();
+    }
+
+    private RentalResponseDto borrow(CategoryResponseDto category, String suffix, LocalDate dueDate) {
+        BookResponseDto book = bookService.createBook(
+                new BookRequestDto("연체 도서 " + suffix + " " + dueDate, "연체테스트", Set.of(category.id())));
+        return rentalService.borrowBook(new RentalRequestDto(book.id(), dueDate));
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.exception.InvalidRequestException;
+import com.example.libraryapi.exception.ResourceInUseException;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.entity.RentalStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 그룹 커밋 모드에서 동시에 들어온 대여/반납이 묶여서 커밋되고, 요청별 결과와 충돌이 각각 전달되는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+	"library.rental.group-commit.enabled=true",
+	"library.rental.group-commit.max-delay=20ms"
+})
+@ActiveProfiles("test")
+public class RentalGroupCommitTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private RentalService rentalService;
+
+	@Autowired
+	private RentalCommandExecutor rentalCommandExecutor;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	private CategoryResponseDto category;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryService.createCategory(new CategoryRequestDto("그룹커밋-" + suffix()));
+	}
+
+	@Test
+	@DisplayName("서로 다른 도서의 동시 대여/반납이 더 적은 수의 커밋으로 모두 처리")
+	void borrowAndReturn_CoalescedIntoFewerCommits() throws Exception {
+		List<BookResponseDto> books = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			books.add(createBook());
+		}
+		long batchesBefore = rentalCommandExecutor.getBatchCount();
+
+		List<RentalResponseDto> rentals = runConcurrently(books.stream()
+				.<Callable<RentalResponseDto>>map(book -> () -> rentalService.borrowBook(request(book)))
+				.toList());
+		List<RentalResponseDto> returned = runConcurrently(rentals.stream()
+				.<Callable<RentalResponseDto>>map(rental -> () -> rentalService.returnBook(rental.id()))
+				.toList());
+
+		assertThat(rentalCommandExecutor.isGroupCommitEnabled()).isTrue();
+		assertThat(rentals).extracting(RentalResponseDto::status).containsOnly(RentalStatus.BORROWED);
+		assertThat(returned).extracting(RentalResponseDto::status).containsOnly(RentalStatus.RETURNED);
+		assertThat(rentalCommandExecutor.getBatchCount() - batchesBefore).isLessThan(THREADS * 2L);
+		books.forEach(book -> assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.AVAILABLE));
+	}
+
+	@Test
+	@DisplayName("같은 도서를 동시에 대여하면 묶음 안에서 한 건만 성공하고 나머지는 충돌")
+	void borrowBook_ConflictsCompleteIndividually() throws Exception {
+		BookResponseDto book = createBook();
+		long fallbacksBefore = rentalCommandExecutor.getFallbackBatchCount();
+
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			tasks.add(() -> {
+				try {
+					rentalService.borrowBook(request(book));
+					return true;
+				} catch (ResourceInUseException e) {
+					return false;
+				}
+			});
+		}
+		List<Boolean> results = runConcurrently(tasks);
+
+		assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+		assertThat(rentalCommandExecutor.getFallbackBatchCount()).isEqualTo(fallbacksBefore);
+		assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.UNAVAILABLE);
+	}
+
+	@Test
+	@DisplayName("이미 반납된 대여를 다시 반납하면 해당 요청만 검증 예외")
+	void returnBook_AlreadyReturned() {
+		RentalResponseDto rental = rentalService.borrowBook(request(createBook()));
+		rentalService.returnBook(rental.id());
+
+		assertThatThrownBy(() -> rentalService.returnBook(rental.id()))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+
+	@Test
+	@DisplayName("같은 묶음에서 반납 후 같은 도서를 대여하면 반납이 반영되어 대여 성공")
+	void returnThenBorrow_SameBookInOneBatch() throws Exception {
+		BookResponseDto book = createBook();
+		RentalResponseDto rental = rentalService.borrowBook(request(book));
+
+		// 전용 스레드를 잠시 붙잡아 두고 반납, 대여 순으로 대기열에 넣어 다음 묶음에 함께 들어가게 합니다.
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			CompletableFuture<Object> blocker = CompletableFuture.supplyAsync(() -> rentalCommandExecutor.execute(() -> {
+				awaitUninterruptibly(release);
+				return null;
+			}), executor);
+			Thread.sleep(100);
+			CompletableFuture<RentalResponseDto> returned =
+					CompletableFuture.supplyAsync(() -> rentalService.returnBook(rental.id()), executor);
+			Thread.sleep(50);
+			CompletableFuture<RentalResponseDto> borrowed =
+					CompletableFuture.supplyAsync(() -> rentalService.borrowBook(request(book)), executor);
+			Thread.sleep(50);
+			release.countDown();
+
+			blocker.get(60, TimeUnit.SECONDS);
+			assertThat(returned.get(60, TimeUnit.SECONDS).status()).isEqualTo(RentalStatus.RETURNED);
+			assertThat(borrowed.get(60, TimeUnit.SECONDS).status()).isEqualTo(RentalStatus.BORROWED);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+		assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.UNAVAILABLE);
+	}
+
+	@Test
+	@DisplayName("전용 스레드에서 만든 오류 메시지도 요청 스레드의 로케일 사용")
+	void errorMessage_UsesRequestLocale() {
+		RentalResponseDto rental = rentalService.borrowBook(request(createBook()));
+		rentalService.returnBook(rental.id());
+
+		try {
+			LocaleContextHolder.setLocale(Locale.ENGLISH);
+			assertThatThrownBy(() -> rentalService.returnBook(rental.id()))
+					.hasMessage("Book is already returned");
+
+			LocaleContextHolder.setLocale(Locale.KOREAN);
+			assertThatThrownBy(() -> rentalService.returnBook(rental.id()))
+					.hasMessage("이미 반납된 도서입니다");
+		} finally {
+			LocaleContextHolder.resetLocaleContext();
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await(60, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private BookResponseDto createBook() {
+		return bookService.createBook(new BookRequestDto("그룹커밋 도서 " + suffix(), "그룹커밋테스트", Set.of(category.id())));
+	}
+
+	private static RentalRequestDto request(BookResponseDto book) {
+		return new RentalRequestDto(book.id(), LocalDate.now().plusDays(7));
+	}
+
+	private static String suffix() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	private static <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+
+			start.countDown();
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(future.get(60, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.entity.BookStatus;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.exception.ResourceInUseException;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 도서를 여러 스레드가 동시에 대여해도 한 요청만 성공하고,
+ * 나머지는 SQLITE_BUSY 같은 DB 오류 없이 충돌(409) 예외로 끝나는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RentalServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("64개 스레드가 같은 도서를 동시에 대여하면 한 건만 성공")
+    void borrowBook_OnlyOneWinsUnderContention() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        CategoryResponseDto category = categoryService.createCategory(new CategoryRequestDto("동시성-" + suffix));
+        BookResponseDto book = bookService.createBook(new BookRequestDto("동시성 도서 " + suffix, "동시성테스트", Set.of(category.id())));
+        RentalRequestDto request = new RentalRequestDto(book.id(), LocalDate.now().plusDays(7));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        rentalService.borrowBook(request);
+                        succeeded.incrementAndGet();
+                    } catch (ResourceInUseException e) {
+                        conflicted.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        synchronized (unexpected) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicted.get()).isEqualTo(THREADS - 1);
+        assertThat(bookService.getBookById(book.id()).status()).isEqualTo(BookStatus.UNAVAILABLE);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.libraryapi.rental.service;
+
+import com.example.libraryapi.book.dto.BookRequestDto;
+import com.example.libraryapi.book.dto.BookResponseDto;
+import com.example.libraryapi.book.service.BookService;
+import com.example.libraryapi.category.dto.CategoryRequestDto;
+import com.example.libraryapi.category.dto.CategoryResponseDto;
+import com.example.libraryapi.category.service.CategoryService;
+import com.example.libraryapi.rental.dto.RentalRequestDto;
+import com.example.libraryapi.rental.dto.RentalResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 목록 조회가 대여 건수와 관계없이 SQL 한 번으로 끝나고(도서 지연 로딩 N+1 없음), 반납일시를 채우는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RentalServiceQueryCountTest {
+
+    private static final int RENTALS = 10;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CategoryResponseDto category;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        category = categoryService.createCategory(
+                new CategoryRequestDto("대여쿼리수-" + UUID.randomUUID().toString().substring(0, 8)));
+    }
+
+    @Test
+    @DisplayName("전체 대여 목록 조회는 SQL 한 번")
+    void getAllRentals_SingleStatement() {
+        seedRentals(LocalDate.now().plusDays(7));
+
+        long statements = countStatements(() -> rentalService.getAllRentals());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연체 대여 목록 조회는 SQL 한 번")
+    void getOverdueRentals_SingleStatement() {
+        seedRentals(LocalDate.now().minusDays(1));
+
+        long statements = countStatements(() -> rentalService.getOverdueRentals(null, 100));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반납된 대여는 목록과 단건 조회에서 반납일을 포함")
+    void returnedRental_HasReturnedDate() {
+        BookResponseDto book = createBook();
+        RentalResponseDto rental = rentalService.borrowBook(new RentalRequestDto(book.id(), LocalDate.now().plusDays(7)));
+        rentalService.returnBook(rental.id());
+
+        assertThat(rentalService.getRentalById(rental.id()).returnedDate()).isEqualTo(LocalDate.now());
+        assertThat(rentalService.getAllRentals())
+                .filteredOn(r -> r.id().equals(rental.id()))
+                .singleElement()
+                .satisfies(r -> assertThat(r.returnedDate()).isEqualTo(LocalDate.now()));
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedRentals(LocalDate dueDate) {
+        for (int i = 0; i < RENTALS; i++) {
+            rentalService.borrowBook(new RentalRequestDto(createBook().id(), dueDate));
+        }
+    }
+
+    private BookResponseDto createBook() {
+        return bookService.createBook(new BookRequestDto(
+                "대여쿼리수 도서 " + UUID.randomUUID().toString().substring(0, 8), "대여쿼리수테스트", Set.of(category.id())));
+    }
+}
@@ -3,11 +3,15 @@ package com.example.libraryapi.rental.service;
 import com.example.libraryapi.book.entity.Book;
 import com.example.libraryapi.book.entity.BookStatus;
 import com.example.libraryapi.category.entity.Category;
+import com.example.libraryapi.common.dto.CursorPageResponseDto;
+import com.example.libraryapi.common.util.CursorUtils;
 import com.example.libraryapi.exception.InvalidRequestException;
+import com.example.libraryapi.exception.MessageUtils;
 import com.example.libraryapi.exception.ResourceInUseException;
 import com.example.libraryapi.exception.ResourceNotFoundException;
 import com.example.libraryapi.rental.dto.RentalRequestDto;
 import com.example.libraryapi.rental.dto.RentalResponseDto;
+import com.example.libraryapi.rental.dto.RentalRow;
 import com.example.libraryapi.rental.entity.Rental;
 import com.example.libraryapi.rental.entity.RentalStatus;
 import com.example.libraryapi.rental.facade.RentalFacade;
@@ -22,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,6 +40,12 @@ public class RentalServiceTest {
     @Mock
     private RentalFacade rentalFacade;
 
+    @Mock
+    private MessageUtils messageUtils;
+
+    @Mock
+    private RentalCommandExecutor rentalCommandExecutor;
+
     @InjectMocks
     private RentalService rentalService;
 
@@ -45,6 +56,10 @@ public class RentalServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 쓰기 작업은 트랜잭션 없이 바로 실행
+        lenient().when(rentalCommandExecutor.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
         mockCategory = new Category();
         mockCategory.setId(1);
         mockCategory.setName("소설");
@@ -71,6 +86,7 @@ public class RentalServiceTest {
     @DisplayName("도서 대여 성공")
     void borrowBook_Success() {
         // Given
+        when(rentalFacade.claimBook(1)).thenReturn(true);
         when(rentalFacade.findBookById(1)).thenReturn(mockBook);
         when(rentalFacade.saveRental(any(Rental.class))).thenReturn(mockRental);
 
@@ -83,10 +99,9 @@ public class RentalServiceTest {
         assertThat(result.bookTitle()).isEqualTo("해리포터와 비밀의 방");
         assertThat(result.status()).isEqualTo(RentalStatus.BORROWED);
         
-        verify(rentalFacade).validateBookNotInUse(1);
-        verify(rentalFacade).findBookById(1);
-        verify(rentalFacade).validateBookAvailable(mockBook);
-        verify(rentalFacade).updateBookStatus(mockBook, BookStatus.UNAVAILABLE);
+        verify(rentalFacade).claimBook(1);
+        verify(rentalFacade, never()).validateBookNotInUse(anyInt());
+        verify(rentalFacade, never()).validateBookAvailable(any(Book.class));
         verify(rentalFacade).saveRental(any(Rental.class));
     }
 
@@ -94,6 +109,8 @@ public class RentalServiceTest {
     @DisplayName("이미 대여 중인 도서 대여 시 예외 발생")
     void borrowBook_AlreadyBorrowed() {
         // Given
+        when(rentalFacade.claimBook(1)).thenReturn(false);
+        when(rentalFacade.findBookById(1)).thenReturn(mockBook);
         doThrow(new ResourceInUseException("Book is already rented"))
                 .when(rentalFacade).validateBookNotInUse(1);
 
@@ -109,6 +126,7 @@ public class RentalServiceTest {
     @DisplayName("대여할 수 없는 도서 상태일 때 예외 발생")
     void borrowBook_UnavailableBook() {
         // Given
+        when(rentalFacade.claimBook(1)).thenReturn(false);
         when(rentalFacade.findBookById(1)).thenReturn(mockBook);
         doThrow(new InvalidRequestException("Book cannot be rented"))
                 .when(rentalFacade).validateBookAvailable(mockBook);
@@ -123,6 +141,22 @@ public class RentalServiceTest {
         verify(rentalFacade, never()).saveRental(any(Rental.class));
     }
 
+    @Test
+    @DisplayName("선점 경쟁에서 진 대여 요청은 충돌 예외 발생")
+    void borrowBook_LostRace() {
+        // Given
+        when(rentalFacade.claimBook(1)).thenReturn(false);
+        when(rentalFacade.findBookById(1)).thenReturn(mockBook);
+        when(rentalFacade.borrowConflict(1)).thenReturn(new ResourceInUseException("Book was just rented"));
+
+        // When & Then
+        assertThatThrownBy(() -> rentalService.borrowBook(mockRentalRequest))
+                .isInstanceOf(ResourceInUseException.class)
+                .hasMessage("Book was just rented");
+        
+        verify(rentalFacade, never()).saveRental(any(Rental.class));
+    }
+
     @Test
     @DisplayName("도서 반납 성공")
     void returnBook_Success() {
@@ -137,6 +171,7 @@ public class RentalServiceTest {
         // Then
         assertThat(result.id()).isEqualTo(1);
         assertThat(result.status()).isEqualTo(RentalStatus.RETURNED);
+        assertThat(result.returnedDate()).isEqualTo(LocalDate.now());
         
         verify(rentalFacade).findRentalById(1);
         verify(rentalFacade).validateBookNotReturned(mockRental);
@@ -165,7 +200,7 @@ public class RentalServiceTest {
     @DisplayName("모든 대여 정보 조회 성공")
     void getAllRentals_Success() {
         // Given
-        when(rentalFacade.findAllRentals()).thenReturn(List.of(mockRental));
+        when(rentalFacade.findAllRentals()).thenReturn(List.of(rowOf(mockRental)));
 
         // When
         List<RentalResponseDto> result = rentalService.getAllRentals();
@@ -173,6 +208,7 @@ public class RentalServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).id()).isEqualTo(1);
+        assertThat(result.get(0).bookTitle()).isEqualTo("해리포터와 비밀의 방");
         verify(rentalFacade).findAllRentals();
     }
 
@@ -205,27 +241,53 @@ public class RentalServiceTest {
     }
 
     @Test
-    @DisplayName("연체된 대여 목록 조회 성공")
+    @DisplayName("연체된 대여 목록 조회는 조회만 수행")
     void getOverdueRentals_Success() {
         // Given
         Rental overdueRental = new Rental();
         overdueRental.setId(2);
         overdueRental.setBook(mockBook);
         overdueRental.setDueDate(LocalDate.now().minusDays(1));
-        overdueRental.setStatus(RentalStatus.BORROWED);
+        overdueRental.setStatus(RentalStatus.OVERDUE);
         
-        when(rentalFacade.findOverdueRentals()).thenReturn(List.of(overdueRental));
-        when(rentalFacade.filterRentalsForOverdueUpdate(any())).thenReturn(List.of(overdueRental));
-        when(rentalFacade.saveAllRentals(any())).thenReturn(List.of(overdueRental));
+        when(rentalFacade.findOverdueRentals(0, 21)).thenReturn(List.of(rowOf(overdueRental)));
 
         // When
-        List<RentalResponseDto> result = rentalService.getOverdueRentals();
+        CursorPageResponseDto<RentalResponseDto> result = rentalService.getOverdueRentals(null, null);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).dueDate()).isBefore(LocalDate.now());
-        verify(rentalFacade).findOverdueRentals();
-        verify(rentalFacade).filterRentalsForOverdueUpdate(any());
-        verify(rentalFacade).saveAllRentals(any());
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.content().get(0).dueDate()).isBefore(LocalDate.now());
+        assertThat(result.hasNext()).isFalse();
+        verify(rentalFacade).findOverdueRentals(0, 21);
+        verify(rentalFacade, never()).markOverdueRentals();
+        verify(rentalFacade, never()).saveRental(any(Rental.class));
+    }
+
+    @Test
+    @DisplayName("다음 연체 페이지가 있으면 마지막 대여 ID로 커서 생성")
+    void getOverdueRentals_HasNextPage() {
+        // Given
+        Rental second = new Rental();
+        second.setId(3);
+        second.setBook(mockBook);
+        second.setDueDate(LocalDate.now().minusDays(2));
+        second.setStatus(RentalStatus.OVERDUE);
+        mockRental.setId(2);
+
+        when(rentalFacade.findOverdueRentals(0, 2)).thenReturn(List.of(rowOf(mockRental), rowOf(second)));
+
+        // When
+        CursorPageResponseDto<RentalResponseDto> result = rentalService.getOverdueRentals(null, 1);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(CursorUtils.decode(result.nextCursor())).isEqualTo(2);
+    }
+
+    private static RentalRow rowOf(Rental rental) {
+        return new RentalRow(rental.getId(), rental.getBook().getId(), rental.getBook().getTitle(),
+                rental.getDueDate(), rental.getReturnedDate(), rental.getStatus(), rental.getCreatedAt(), rental.getUpdatedAt());
     }
-} 
\ No newline at end of file
+}